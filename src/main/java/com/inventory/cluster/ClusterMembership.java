@@ -0,0 +1,66 @@
+package com.inventory.cluster;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class ClusterMembership {
+    
+    private final boolean enabled;
+    private final String self;
+    private final int virtualNodes;
+    private final ConsistentHashRing ring;
+    
+    @Autowired
+    public ClusterMembership(@Value("${inventory.cluster.enabled:false}") final boolean enabled,
+                             @Value("${inventory.cluster.self:http://localhost:8080}") final String self,
+                             @Value("${inventory.cluster.members:}") final String members,
+                             @Value("${inventory.cluster.virtual-nodes:128}") final int virtualNodes) {
+        this.enabled = enabled;
+        this.self = normalize(self);
+        this.virtualNodes = virtualNodes;
+        this.ring = buildRing(Arrays.asList(members.split(",")));
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public String getSelf() {
+        return self;
+    }
+    
+    public List<String> getMembers() {
+        return ring.getMembers();
+    }
+    
+    public String ownerOf(final String productId) {
+        final String owner = ring.ownerOf(productId);
+        return owner != null ? owner : self;
+    }
+    
+    public boolean isOwner(final String productId) {
+        return !enabled || self.equals(ownerOf(productId));
+    }
+    
+    private ConsistentHashRing buildRing(final List<String> members) {
+        final Set<String> normalized = new LinkedHashSet<>();
+        normalized.add(self);
+        for (final String member : members) {
+            if (member != null && !member.isBlank()) {
+                normalized.add(normalize(member));
+            }
+        }
+        return new ConsistentHashRing(normalized, virtualNodes);
+    }
+    
+    private static String normalize(final String member) {
+        final String trimmed = member.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -0,0 +1,104 @@
+package com.inventory.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.exception.InternalServerException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Component
+public class ClusterRouter {
+    
+    public static final String FORWARDED_HEADER = "X-Inventory-Forwarded";
+    
+    private final ClusterMembership membership;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    
+    @Autowired
+    public ClusterRouter(final ClusterMembership membership,
+                         final ObjectMapper objectMapper,
+                         @Value("${inventory.cluster.connect-timeout-ms:200}") final long connectTimeoutMillis,
+                         @Value("${inventory.cluster.request-timeout-ms:2000}") final long requestTimeoutMillis) {
+        this.membership = membership;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+            .build();
+    }
+    
+    public ResponseEntity<?> routeOrElse(final String productId, final Object body, final Supplier<ResponseEntity<?>> local) {
+        final HttpServletRequest request = currentRequest();
+        if (request == null || request.getHeader(FORWARDED_HEADER) != null || productId == null || membership.isOwner(productId)) {
+            return local.get();
+        }
+        
+        final String path = request.getQueryString() == null
+            ? request.getRequestURI()
+            : request.getRequestURI() + "?" + request.getQueryString();
+        final String accept = request.getHeader(HttpHeaders.ACCEPT);
+        final Optional<ResponseEntity<byte[]>> forwarded = forward(membership.ownerOf(productId), request.getMethod(), path,
+            accept != null ? accept : MediaType.APPLICATION_JSON_VALUE, body);
+        if (forwarded.isPresent()) {
+            return forwarded.get();
+        }
+        return local.get();
+    }
+    
+    private Optional<ResponseEntity<byte[]>> forward(final String owner, final String method, final String path,
+                                                     final String accept, final Object body) {
+        try {
+            final HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+            final HttpRequest request = HttpRequest.newBuilder(URI.create(owner + path))
+                .timeout(requestTimeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, accept)
+                .header(FORWARDED_HEADER, membership.getSelf())
+                .method(method, publisher)
+                .build();
+            
+            final HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            final ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.statusCode())
+                .contentType(MediaType.parseMediaType(response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                    .orElse(MediaType.APPLICATION_JSON_VALUE)));
+            response.headers().firstValue(HttpHeaders.RETRY_AFTER)
+                .ifPresent(retryAfter -> builder.header(HttpHeaders.RETRY_AFTER, retryAfter));
+            return Optional.of(builder.body(response.body()));
+        } catch (final ConnectException | HttpConnectTimeoutException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new InternalServerException("Failed to reach owner node for product: " + e.getMessage());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("Interrupted while forwarding to owner node");
+        }
+    }
+    
+    private static HttpServletRequest currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest();
+        }
+        return null;
+    }
+}
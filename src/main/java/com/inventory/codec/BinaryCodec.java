@@ -0,0 +1,346 @@
+package com.inventory.codec;
+
+import com.inventory.dto.OrderInput;
+import com.inventory.dto.OrderOutput;
+import com.inventory.dto.ReservationInput;
+import com.inventory.dto.ReservationOutput;
+import com.inventory.dto.StockInput;
+import com.inventory.dto.StockOutput;
+import com.inventory.dto.StockUpdateOutput;
+import com.inventory.exception.ErrorResponse;
+import java.nio.charset.StandardCharsets;
+
+public final class BinaryCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-inventory-binary";
+    
+    static final byte FORMAT_VERSION = 1;
+    
+    private BinaryCodec() {
+    }
+    
+    public static byte[] encode(final ReservationInput input) {
+        final Writer writer = new Writer(1 + 1 + sizeOf(input.productId()) + sizeOf(input.quantity()));
+        writer.header(presence(input.productId(), input.quantity()));
+        writer.string(input.productId());
+        writer.integer(input.quantity());
+        return writer.bytes();
+    }
+    
+    public static ReservationInput decodeReservationInput(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        return new ReservationInput(reader.string(), reader.integer());
+    }
+    
+    public static byte[] encode(final ReservationOutput output) {
+        final Writer writer = new Writer(1 + 1 + sizeOf(output.reservationId()) + sizeOf(output.orderId())
+            + sizeOf(output.productId()) + sizeOf(output.quantity()) + sizeOf(output.expiresAt()) + sizeOf(output.status()));
+        writer.header(presence(output.reservationId(), output.orderId(), output.productId(),
+            output.quantity(), output.expiresAt(), output.status()));
+        writer.string(output.reservationId());
+        writer.string(output.orderId());
+        writer.string(output.productId());
+        writer.integer(output.quantity());
+        writer.string(output.expiresAt());
+        writer.string(output.status());
+        return writer.bytes();
+    }
+    
+    public static ReservationOutput decodeReservationOutput(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        return new ReservationOutput(reader.string(), reader.string(), reader.string(),
+            reader.integer(), reader.string(), reader.string());
+    }
+    
+    public static byte[] encode(final StockInput input) {
+        final Writer writer = new Writer(1 + 1 + sizeOf(input.stock()));
+        writer.header(presence(input.stock()));
+        writer.integer(input.stock());
+        return writer.bytes();
+    }
+    
+    public static StockInput decodeStockInput(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        return new StockInput(reader.integer());
+    }
+    
+    public static byte[] encode(final StockOutput output) {
+        final Writer writer = new Writer(1 + 1 + sizeOf(output.productId()) + sizeOf(output.productName())
+            + sizeOf(output.availableStock()) + sizeOf(output.reservedStock()) + sizeOf(output.soldStock())
+            + sizeOf(output.totalStock()));
+        writer.header(presence(output.productId(), output.productName(), output.availableStock(),
+            output.reservedStock(), output.soldStock(), output.totalStock()));
+        writer.string(output.productId());
+        writer.string(output.productName());
+        writer.integer(output.availableStock());
+        writer.integer(output.reservedStock());
+        writer.integer(output.soldStock());
+        writer.integer(output.totalStock());
+        return writer.bytes();
+    }
+    
+    public static StockOutput decodeStockOutput(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        return new StockOutput(reader.string(), reader.string(), reader.integer(),
+            reader.integer(), reader.integer(), reader.integer());
+    }
+    
+    public static byte[] encode(final StockUpdateOutput output) {
+        final Writer writer = new Writer(1 + 1 + sizeOf(output.productId()) + sizeOf(output.message())
+            + sizeOf(output.addedStock()) + sizeOf(output.newTotalStock()));
+        writer.header(presence(output.productId(), output.message(), output.addedStock(), output.newTotalStock()));
+        writer.string(output.productId());
+        writer.string(output.message());
+        writer.integer(output.addedStock());
+        writer.integer(output.newTotalStock());
+        return writer.bytes();
+    }
+    
+    public static StockUpdateOutput decodeStockUpdateOutput(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        return new StockUpdateOutput(reader.string(), reader.string(), reader.integer(), reader.integer());
+    }
+    
+    public static byte[] encode(final OrderInput input) {
+        final Writer writer = new Writer(1 + 1 + sizeOf(input.orderId()));
+        writer.header(presence(input.orderId()));
+        writer.string(input.orderId());
+        return writer.bytes();
+    }
+    
+    public static OrderInput decodeOrderInput(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        return new OrderInput(reader.string());
+    }
+    
+    public static byte[] encode(final OrderOutput output) {
+        final Writer writer = new Writer(1 + 1 + sizeOf(output.orderId()) + sizeOf(output.status()));
+        writer.header(presence(output.orderId(), output.status()));
+        writer.string(output.orderId());
+        writer.string(output.status());
+        return writer.bytes();
+    }
+    
+    public static OrderOutput decodeOrderOutput(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        return new OrderOutput(reader.string(), reader.string());
+    }
+    
+    public static byte[] encode(final ErrorResponse error) {
+        final Writer writer = new Writer(1 + 1 + sizeOf(error.getId()) + sizeOf(error.getMessage())
+            + sizeOf(error.getErrorCode()) + (error.getRetryable() == null ? 0 : 1));
+        writer.header(presence(error.getId(), error.getMessage(), error.getErrorCode(), error.getRetryable()));
+        writer.string(error.getId());
+        writer.string(error.getMessage());
+        writer.integer(error.getErrorCode());
+        writer.bool(error.getRetryable());
+        return writer.bytes();
+    }
+    
+    public static ErrorResponse decodeErrorResponse(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        return new ErrorResponse(reader.string(), reader.string(), reader.integer(), reader.bool());
+    }
+    
+    private static int presence(final Object... fields) {
+        int mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+    
+    private static int sizeOf(final Integer value) {
+        return value == null ? 0 : varintSize(zigZag(value));
+    }
+    
+    private static int sizeOf(final String value) {
+        if (value == null) {
+            return 0;
+        }
+        final int length = utf8Length(value);
+        return varintSize(length) + length;
+    }
+    
+    private static int zigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+    
+    private static int varintSize(final int value) {
+        if ((value & 0xFFFFFF80) == 0) {
+            return 1;
+        }
+        if ((value & 0xFFFFC000) == 0) {
+            return 2;
+        }
+        if ((value & 0xFFE00000) == 0) {
+            return 3;
+        }
+        if ((value & 0xF0000000) == 0) {
+            return 4;
+        }
+        return 5;
+    }
+    
+    private static int utf8Length(final String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+    
+    private static boolean isAscii(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static final class Writer {
+        
+        private final byte[] buffer;
+        private int position;
+        private int presence;
+        private int field;
+        
+        private Writer(final int size) {
+            this.buffer = new byte[size];
+        }
+        
+        private void header(final int presence) {
+            this.presence = presence;
+            buffer[position++] = FORMAT_VERSION;
+            buffer[position++] = (byte) presence;
+        }
+        
+        private boolean present() {
+            return (presence & (1 << field++)) != 0;
+        }
+        
+        private void integer(final Integer value) {
+            if (present()) {
+                varint(zigZag(value));
+            }
+        }
+        
+        private void bool(final Boolean value) {
+            if (present()) {
+                buffer[position++] = (byte) (value ? 1 : 0);
+            }
+        }
+        
+        private void string(final String value) {
+            if (!present()) {
+                return;
+            }
+            final int length = utf8Length(value);
+            varint(length);
+            if (isAscii(value)) {
+                for (int i = 0; i < length; i++) {
+                    buffer[position++] = (byte) value.charAt(i);
+                }
+            } else {
+                final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                System.arraycopy(encoded, 0, buffer, position, encoded.length);
+                position += encoded.length;
+            }
+        }
+        
+        private void varint(int value) {
+            while ((value & 0xFFFFFF80) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+        
+        private byte[] bytes() {
+            return buffer;
+        }
+    }
+    
+    private static final class Reader {
+        
+        private final byte[] buffer;
+        private final int presence;
+        private int position;
+        private int field;
+        
+        private Reader(final byte[] buffer) {
+            if (buffer.length < 2 || buffer[0] != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported binary payload");
+            }
+            this.buffer = buffer;
+            this.presence = buffer[1] & 0xFF;
+            this.position = 2;
+        }
+        
+        private boolean present() {
+            return (presence & (1 << field++)) != 0;
+        }
+        
+        private Integer integer() {
+            if (!present()) {
+                return null;
+            }
+            final int value = varint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+        
+        private Boolean bool() {
+            if (!present()) {
+                return null;
+            }
+            return byteAt(position++) != 0;
+        }
+        
+        private String string() {
+            if (!present()) {
+                return null;
+            }
+            final int length = varint();
+            if (length < 0 || length > buffer.length - position) {
+                throw new IllegalArgumentException("Truncated binary payload");
+            }
+            final String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+        
+        private int varint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                final byte b = byteAt(position++);
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in binary payload");
+        }
+        
+        private byte byteAt(final int index) {
+            if (index >= buffer.length) {
+                throw new IllegalArgumentException("Truncated binary payload");
+            }
+            return buffer[index];
+        }
+    }
+}
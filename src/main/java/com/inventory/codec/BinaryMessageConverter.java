@@ -0,0 +1,95 @@
+package com.inventory.codec;
+
+import com.inventory.dto.OrderInput;
+import com.inventory.dto.OrderOutput;
+import com.inventory.dto.ReservationInput;
+import com.inventory.dto.ReservationOutput;
+import com.inventory.dto.StockInput;
+import com.inventory.dto.StockOutput;
+import com.inventory.dto.StockUpdateOutput;
+import com.inventory.exception.ErrorResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import java.io.IOException;
+
+public class BinaryMessageConverter extends AbstractHttpMessageConverter<Object> {
+    
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(BinaryCodec.MEDIA_TYPE_VALUE);
+    
+    public BinaryMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+    
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return clazz == ReservationInput.class
+            || clazz == ReservationOutput.class
+            || clazz == StockInput.class
+            || clazz == StockOutput.class
+            || clazz == StockUpdateOutput.class
+            || clazz == OrderInput.class
+            || clazz == OrderOutput.class
+            || clazz == ErrorResponse.class;
+    }
+    
+    @Override
+    protected Object readInternal(final Class<?> clazz, final HttpInputMessage inputMessage) throws IOException {
+        final byte[] bytes = inputMessage.getBody().readAllBytes();
+        try {
+            if (clazz == ReservationInput.class) {
+                return BinaryCodec.decodeReservationInput(bytes);
+            }
+            if (clazz == StockInput.class) {
+                return BinaryCodec.decodeStockInput(bytes);
+            }
+            if (clazz == ReservationOutput.class) {
+                return BinaryCodec.decodeReservationOutput(bytes);
+            }
+            if (clazz == StockOutput.class) {
+                return BinaryCodec.decodeStockOutput(bytes);
+            }
+            if (clazz == StockUpdateOutput.class) {
+                return BinaryCodec.decodeStockUpdateOutput(bytes);
+            }
+            if (clazz == OrderInput.class) {
+                return BinaryCodec.decodeOrderInput(bytes);
+            }
+            if (clazz == OrderOutput.class) {
+                return BinaryCodec.decodeOrderOutput(bytes);
+            }
+            return BinaryCodec.decodeErrorResponse(bytes);
+        } catch (final IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Invalid binary payload: " + e.getMessage(), inputMessage);
+        }
+    }
+    
+    @Override
+    protected void writeInternal(final Object body, final HttpOutputMessage outputMessage) throws IOException {
+        final byte[] bytes;
+        if (body instanceof ReservationOutput output) {
+            bytes = BinaryCodec.encode(output);
+        } else if (body instanceof StockOutput output) {
+            bytes = BinaryCodec.encode(output);
+        } else if (body instanceof StockUpdateOutput output) {
+            bytes = BinaryCodec.encode(output);
+        } else if (body instanceof ErrorResponse error) {
+            bytes = BinaryCodec.encode(error);
+        } else if (body instanceof ReservationInput input) {
+            bytes = BinaryCodec.encode(input);
+        } else if (body instanceof StockInput input) {
+            bytes = BinaryCodec.encode(input);
+        } else if (body instanceof OrderOutput output) {
+            bytes = BinaryCodec.encode(output);
+        } else if (body instanceof OrderInput input) {
+            bytes = BinaryCodec.encode(input);
+        } else {
+            throw new HttpMessageNotWritableException("Unsupported type for binary encoding: " + body.getClass().getName());
+        }
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+}
@@ -0,0 +1,79 @@
+package com.inventory.controller;
+
+import com.inventory.dto.AdmissionStats;
+import com.inventory.dto.ReconciliationJob;
+import com.inventory.exception.GlobalExceptionHandler;
+import com.inventory.exception.Rejection;
+import com.inventory.exception.ResourceNotFoundException;
+import com.inventory.service.ReconciliationService;
+import com.inventory.service.ReservationAdmission;
+import com.inventory.trace.ReservationTracer;
+import com.inventory.trace.TraceEvent;
+import com.inventory.trace.TraceSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/admin")
+@ConditionalOnProperty(name = "inventory.admin.enabled", havingValue = "true")
+public class AdminController {
+    
+    private final ReservationTracer tracer;
+    private final ReconciliationService reconciliation;
+    private final ReservationAdmission admission;
+    
+    @Autowired
+    public AdminController(final ReservationTracer tracer, final ReconciliationService reconciliation,
+                           final ReservationAdmission admission) {
+        this.tracer = tracer;
+        this.reconciliation = reconciliation;
+        this.admission = admission;
+    }
+    
+    @GetMapping("/trace")
+    public ResponseEntity<List<TraceEvent>> dumpTrace(@RequestParam(required = false) final String productId,
+                                                      @RequestParam(required = false) final String orderId,
+                                                      @RequestParam(defaultValue = "1000") final int limit) {
+        return ResponseEntity.ok(tracer.dump(productId, orderId, limit));
+    }
+    
+    @GetMapping("/trace/settings")
+    public ResponseEntity<TraceSettings> getTraceSettings() {
+        return ResponseEntity.ok(tracer.getSettings());
+    }
+    
+    @PutMapping("/trace/settings")
+    public ResponseEntity<TraceSettings> updateTraceSettings(@RequestBody final TraceSettings settings) {
+        tracer.configure(settings.enabled(), settings.sampleEvery(), settings.rejectionSampleEvery(),
+            settings.slowThresholdMillis());
+        return ResponseEntity.ok(tracer.getSettings());
+    }
+    
+    @GetMapping("/admission")
+    public ResponseEntity<AdmissionStats> getAdmissionStats() {
+        return ResponseEntity.ok(admission.getStats());
+    }
+    
+    @PostMapping("/reconciliation")
+    public ResponseEntity<?> startReconciliation(@RequestParam(defaultValue = "false") final boolean repair) {
+        final Optional<ReconciliationJob> job = reconciliation.start(repair);
+        if (job.isEmpty()) {
+            return GlobalExceptionHandler.handleRejection(Rejection.reconciliationRunning());
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .location(URI.create("/admin/reconciliation/" + job.get().jobId()))
+            .body(job.get());
+    }
+    
+    @GetMapping("/reconciliation/{jobId}")
+    public ResponseEntity<ReconciliationJob> getReconciliation(@PathVariable final String jobId) {
+        return ResponseEntity.ok(reconciliation.getJob(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("No reconciliation job found")));
+    }
+}
@@ -0,0 +1,29 @@
+package com.inventory.controller;
+
+import com.inventory.cluster.ClusterMembership;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/internal/cluster")
+public class ClusterController {
+    
+    private final ClusterMembership membership;
+    
+    @Autowired
+    public ClusterController(final ClusterMembership membership) {
+        this.membership = membership;
+    }
+    
+    @GetMapping("/members")
+    public ResponseEntity<List<String>> getMembers() {
+        return ResponseEntity.ok(membership.getMembers());
+    }
+    
+    @GetMapping("/owner/{productId}")
+    public ResponseEntity<String> getOwner(@PathVariable final String productId) {
+        return ResponseEntity.ok(membership.ownerOf(productId));
+    }
+}
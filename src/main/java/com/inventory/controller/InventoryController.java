@@ -1,7 +1,10 @@
 package com.inventory.controller;
 
+import com.inventory.cluster.ClusterRouter;
 import com.inventory.dto.*;
+import com.inventory.exception.GlobalExceptionHandler;
 import com.inventory.service.InventoryService;
+import com.inventory.service.ReservationAdmission;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -12,10 +15,14 @@ import jakarta.validation.Valid;
 public class InventoryController {
     
     private final InventoryService service;
+    private final ReservationAdmission admission;
+    private final ClusterRouter router;
     
     @Autowired
-    public InventoryController(final InventoryService service) {
+    public InventoryController(final InventoryService service, final ReservationAdmission admission, final ClusterRouter router) {
         this.service = service;
+        this.admission = admission;
+        this.router = router;
     }
     
     @PostMapping
@@ -25,15 +32,19 @@ public class InventoryController {
     }
     
     @PutMapping("/stock/{productId}")
-    public ResponseEntity<StockUpdateOutput> updateStock(@PathVariable final String productId, @Valid @RequestBody final StockInput input) {
-        final StockUpdateOutput result = service.updateStock(productId, input);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<?> updateStock(@PathVariable final String productId, @Valid @RequestBody final StockInput input) {
+        return router.routeOrElse(productId, input, () -> ResponseEntity.ok(service.updateStock(productId, input)));
     }
     
     @PostMapping("/reservation")
-    public ResponseEntity<ReservationOutput> reserveStock(@Valid @RequestBody final ReservationInput input) {
-        final ReservationOutput result = service.reserveStock(input);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<?> reserveStock(@Valid @RequestBody final ReservationInput input) {
+        return router.routeOrElse(input.productId(), input, () -> {
+            final ReservationResult result = admission.admit(input, service::reserveStock);
+            if (result.isRejected()) {
+                return GlobalExceptionHandler.handleRejection(result.rejection());
+            }
+            return ResponseEntity.ok(result.output());
+        });
     }
     
     @PostMapping("/order")
@@ -43,8 +54,7 @@ public class InventoryController {
     }
     
     @GetMapping("/stock/{productId}")
-    public ResponseEntity<StockOutput> getAvailableStock(@PathVariable final String productId) {
-        final StockOutput result = service.getAvailableStock(productId);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<?> getAvailableStock(@PathVariable final String productId) {
+        return router.routeOrElse(productId, null, () -> ResponseEntity.ok(service.getAvailableStock(productId)));
     }
 }
\ No newline at end of file
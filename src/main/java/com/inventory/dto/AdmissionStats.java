@@ -0,0 +1,3 @@
+package com.inventory.dto;
+
+public record AdmissionStats(Long soldOutHits, Integer activeLimiters, Integer soldOutProducts) {}
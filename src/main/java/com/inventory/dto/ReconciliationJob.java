@@ -0,0 +1,11 @@
+package com.inventory.dto;
+
+public record ReconciliationJob(
+    String jobId,
+    ReconciliationJobStatus status,
+    Boolean repair,
+    String startedAt,
+    String finishedAt,
+    ReconciliationReport report,
+    String error
+) {}
@@ -0,0 +1,5 @@
+package com.inventory.dto;
+
+public enum ReconciliationJobStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,12 @@
+package com.inventory.dto;
+
+import java.util.List;
+
+public record ReconciliationReport(
+    Long productsScanned,
+    Long driftedProducts,
+    Long repairedProducts,
+    Integer partitions,
+    Long durationMillis,
+    List<StockDrift> drifts
+) {}
@@ -0,0 +1,18 @@
+package com.inventory.dto;
+
+import com.inventory.exception.Rejection;
+
+public record ReservationResult(ReservationOutput output, Rejection rejection) {
+    
+    public static ReservationResult reserved(final ReservationOutput output) {
+        return new ReservationResult(output, null);
+    }
+    
+    public static ReservationResult rejected(final Rejection rejection) {
+        return new ReservationResult(null, rejection);
+    }
+    
+    public boolean isRejected() {
+        return rejection != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.inventory.dto;
+
+public record StockDrift(
+    String productId,
+    Integer totalStock,
+    Integer availableStock,
+    Integer reservedStock,
+    Integer soldStock,
+    Integer expectedAvailableStock,
+    Integer expectedReservedStock,
+    Integer expectedSoldStock
+) {
+    
+    public boolean hasDrift() {
+        return !availableStock.equals(expectedAvailableStock)
+            || !reservedStock.equals(expectedReservedStock)
+            || !soldStock.equals(expectedSoldStock);
+    }
+}
\ No newline at end of file
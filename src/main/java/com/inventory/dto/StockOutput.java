@@ -1,3 +1,10 @@
 package com.inventory.dto;
 
-public record StockOutput(String productId, String productName, Integer availableStock) {}
\ No newline at end of file
+public record StockOutput(
+    String productId,
+    String productName,
+    Integer availableStock,
+    Integer reservedStock,
+    Integer soldStock,
+    Integer totalStock
+) {}
\ No newline at end of file
@@ -24,6 +24,12 @@ public class Inventory {
     @Column(name = "available_stock", nullable = false)
     private Integer availableStock;
     
+    @Column(name = "reserved_stock", nullable = false)
+    private Integer reservedStock;
+    
+    @Column(name = "sold_stock", nullable = false)
+    private Integer soldStock;
+    
     @Version
     private Long version;
     
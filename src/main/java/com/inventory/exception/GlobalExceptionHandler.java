@@ -1,8 +1,10 @@
 package com.inventory.exception;
 
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -35,6 +37,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
     
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(final OptimisticLockingFailureException ex) {
+        return handleRejection(Rejection.conflict());
+    }
+    
+    public static ResponseEntity<ErrorResponse> handleRejection(final Rejection rejection) {
+        final ErrorResponse error = ErrorResponse.builder()
+            .id(null)
+            .message(rejection.message())
+            .errorCode(rejection.reason().getStatus().value())
+            .retryable(rejection.reason().isRetryable())
+            .build();
+        final ResponseEntity.BodyBuilder response = ResponseEntity.status(rejection.reason().getStatus());
+        if (rejection.retryAfterSeconds() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(rejection.retryAfterSeconds()));
+        }
+        return response.body(error);
+    }
+    
     @ExceptionHandler(InternalServerException.class)
     public ResponseEntity<ErrorResponse> handleInternalServer(final InternalServerException ex) {
         final ErrorResponse error = ErrorResponse.builder()
@@ -63,6 +84,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
     
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableBody(final HttpMessageNotReadableException ex) {
+        final ErrorResponse error = ErrorResponse.builder()
+            .id(null)
+            .message("Malformed request body")
+            .errorCode(400)
+            .retryable(false)
+            .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+    
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(final NoHandlerFoundException ex) {
         final ErrorResponse error = ErrorResponse.builder()
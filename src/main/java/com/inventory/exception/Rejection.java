@@ -0,0 +1,35 @@
+package com.inventory.exception;
+
+public record Rejection(RejectionReason reason, Integer requested, Integer available, Long retryAfterSeconds) {
+    
+    private static final Rejection NOT_FOUND = new Rejection(RejectionReason.NOT_FOUND, null, null, null);
+    private static final Rejection CONFLICT = new Rejection(RejectionReason.CONFLICT, null, null, null);
+    private static final Rejection RECONCILIATION_RUNNING = new Rejection(RejectionReason.RECONCILIATION_RUNNING, null, null, null);
+    
+    public static Rejection outOfStock(final Integer requested, final Integer available) {
+        return new Rejection(RejectionReason.OUT_OF_STOCK, requested, available, null);
+    }
+    
+    public static Rejection notFound() {
+        return NOT_FOUND;
+    }
+    
+    public static Rejection conflict() {
+        return CONFLICT;
+    }
+    
+    public static Rejection reconciliationRunning() {
+        return RECONCILIATION_RUNNING;
+    }
+    
+    public static Rejection throttled(final long retryAfterSeconds) {
+        return new Rejection(RejectionReason.THROTTLED, null, null, retryAfterSeconds);
+    }
+    
+    public String message() {
+        if (reason == RejectionReason.OUT_OF_STOCK) {
+            return reason.getMessage() + ". Your quantity: " + requested + ", Available: " + available;
+        }
+        return reason.getMessage();
+    }
+}
@@ -0,0 +1,33 @@
+package com.inventory.exception;
+
+import org.springframework.http.HttpStatus;
+
+public enum RejectionReason {
+    OUT_OF_STOCK(HttpStatus.BAD_REQUEST, false, "Out of stock"),
+    NOT_FOUND(HttpStatus.NOT_FOUND, false, "Product not found"),
+    CONFLICT(HttpStatus.CONFLICT, true, "Stock reservation failed due to concurrent modification. Please retry."),
+    THROTTLED(HttpStatus.TOO_MANY_REQUESTS, true, "Too many concurrent reservations for this product. Please retry later."),
+    RECONCILIATION_RUNNING(HttpStatus.CONFLICT, true, "A reconciliation job is already running. Please retry later.");
+    
+    private final HttpStatus status;
+    private final boolean retryable;
+    private final String message;
+    
+    RejectionReason(final HttpStatus status, final boolean retryable, final String message) {
+        this.status = status;
+        this.retryable = retryable;
+        this.message = message;
+    }
+    
+    public HttpStatus getStatus() {
+        return status;
+    }
+    
+    public boolean isRetryable() {
+        return retryable;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+}
@@ -5,9 +5,9 @@ import com.inventory.dto.ReservationStatus;
 import com.inventory.dto.OrderStatus;
 import com.inventory.exception.InternalServerException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -54,23 +54,43 @@ public class InventoryRepository {
     
     public Optional<Product> findByName(final String name) {
         try {
-            final Product product = entityManager.createQuery("SELECT p FROM Product p WHERE p.name = :name", Product.class)
+            return entityManager.createQuery("SELECT p FROM Product p WHERE p.name = :name", Product.class)
                 .setParameter("name", name)
-                .getSingleResult();
-            return Optional.of(product);
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
         } catch (final Exception e) {
-            return Optional.empty();
+            throw new InternalServerException("Failed to find product: " + e.getMessage());
         }
     }
     
     public Optional<Inventory> findInventoryByProductId(final String productId) {
         try {
-            final Inventory inventory = entityManager.createQuery("SELECT i FROM Inventory i WHERE i.productId = :productId", Inventory.class)
+            return Optional.ofNullable(entityManager.find(Inventory.class, productId));
+        } catch (final Exception e) {
+            throw new InternalServerException("Failed to find inventory: " + e.getMessage());
+        }
+    }
+    
+    public Optional<Integer> findAvailableStock(final String productId) {
+        try {
+            return entityManager.createQuery("SELECT i.availableStock FROM Inventory i WHERE i.productId = :productId", Integer.class)
                 .setParameter("productId", productId)
-                .getSingleResult();
-            return Optional.of(inventory);
+                .getResultStream()
+                .findFirst();
         } catch (final Exception e) {
-            return Optional.empty();
+            throw new InternalServerException("Failed to read available stock: " + e.getMessage());
+        }
+    }
+    
+    public int reserveAvailableStock(final String productId, final Integer quantity) {
+        try {
+            return entityManager.createQuery("UPDATE Inventory i SET i.availableStock = i.availableStock - :quantity, i.reservedStock = i.reservedStock + :quantity, i.version = i.version + 1 WHERE i.productId = :productId AND i.availableStock >= :quantity")
+                .setParameter("productId", productId)
+                .setParameter("quantity", quantity)
+                .executeUpdate();
+        } catch (final Exception e) {
+            throw new InternalServerException("Failed to reserve stock: " + e.getMessage());
         }
     }
     
@@ -87,7 +107,7 @@ public class InventoryRepository {
     
     public int insertInventory(final String productId, final Integer stock) {
         try {
-            return entityManager.createNativeQuery("INSERT INTO inventory (product_id, total_stock, available_stock, version) VALUES (?, ?, ?, 0)")
+            return entityManager.createNativeQuery("INSERT INTO inventory (product_id, total_stock, available_stock, reserved_stock, sold_stock, version) VALUES (?, ?, ?, 0, 0, 0)")
                 .setParameter(1, productId)
                 .setParameter(2, stock)
                 .setParameter(3, stock)
@@ -97,31 +117,36 @@ public class InventoryRepository {
         }
     }
     
-    public Optional<Reservation> findReservationByOrderId(final String orderId) {
+    public Optional<Reservation> lockReservationByOrderId(final String orderId) {
         try {
-            final Reservation reservation = entityManager.createQuery("SELECT r FROM Reservation r WHERE r.orderId = :orderId", Reservation.class)
+            return entityManager.createQuery("SELECT r FROM Reservation r WHERE r.orderId = :orderId", Reservation.class)
                 .setParameter("orderId", orderId)
-                .getSingleResult();
-            return Optional.of(reservation);
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
         } catch (final Exception e) {
-            return Optional.empty();
+            throw new InternalServerException("Failed to find reservation: " + e.getMessage());
         }
     }
     
-    public List<Reservation> findExpiredReservations(final LocalDateTime now) {
+    @SuppressWarnings("unchecked")
+    public List<Reservation> claimExpiredReservations(final LocalDateTime now, final int limit) {
         try {
-            return entityManager.createQuery("SELECT r FROM Reservation r WHERE r.status = :reservedStatus AND r.expiresAt < :now", Reservation.class)
-                .setParameter("reservedStatus", ReservationStatus.RESERVED)
-                .setParameter("now", now)
+            return entityManager.createNativeQuery(
+                "SELECT * FROM reservations WHERE status = 'RESERVED' AND expires_at < ? " +
+                "ORDER BY expires_at LIMIT ? FOR UPDATE SKIP LOCKED", Reservation.class)
+                .setParameter(1, now)
+                .setParameter(2, limit)
                 .getResultList();
         } catch (final Exception e) {
-            throw new InternalServerException("Failed to find expired reservations: " + e.getMessage());
+            throw new InternalServerException("Failed to claim expired reservations: " + e.getMessage());
         }
     }
     
     public int releaseStock(final String productId, final Integer quantity) {
         try {
-            return entityManager.createQuery("UPDATE Inventory i SET i.availableStock = i.availableStock + :quantity WHERE i.productId = :productId")
+            return entityManager.createQuery("UPDATE Inventory i SET i.availableStock = i.availableStock + :quantity, i.reservedStock = i.reservedStock - :quantity, i.version = i.version + 1 WHERE i.productId = :productId")
                 .setParameter("productId", productId)
                 .setParameter("quantity", quantity)
                 .executeUpdate();
@@ -130,28 +155,26 @@ public class InventoryRepository {
         }
     }
     
-    public int bulkExpireReservations(final LocalDateTime now) {
+    public int sellReservedStock(final String productId, final Integer quantity) {
         try {
-            return entityManager.createQuery("UPDATE Reservation r SET r.status = :expiredStatus WHERE r.status = :reservedStatus AND r.expiresAt < :now")
-                .setParameter("expiredStatus", ReservationStatus.EXPIRED)
-                .setParameter("reservedStatus", ReservationStatus.RESERVED)
-                .setParameter("now", now)
+            return entityManager.createQuery("UPDATE Inventory i SET i.reservedStock = i.reservedStock - :quantity, i.soldStock = i.soldStock + :quantity, i.version = i.version + 1 WHERE i.productId = :productId")
+                .setParameter("productId", productId)
+                .setParameter("quantity", quantity)
                 .executeUpdate();
         } catch (final Exception e) {
-            throw new InternalServerException("Failed to expire reservations: " + e.getMessage());
+            throw new InternalServerException("Failed to record sold stock: " + e.getMessage());
         }
     }
     
-    public int bulkReleaseExpiredStock(final LocalDateTime now) {
+    public int expireReservations(final List<String> reservationIds) {
         try {
-            return entityManager.createNativeQuery(
-                "UPDATE inventory i SET i.available_stock = i.available_stock + " +
-                "(SELECT IFNULL(SUM(r.quantity), 0) FROM reservations r " +
-                "WHERE r.product_id = i.product_id AND r.status = 'RESERVED' AND r.expires_at < ?)")
-                .setParameter(1, now)
+            return entityManager.createQuery("UPDATE Reservation r SET r.status = :expiredStatus WHERE r.id IN :ids AND r.status = :reservedStatus")
+                .setParameter("expiredStatus", ReservationStatus.EXPIRED)
+                .setParameter("reservedStatus", ReservationStatus.RESERVED)
+                .setParameter("ids", reservationIds)
                 .executeUpdate();
         } catch (final Exception e) {
-            throw new InternalServerException("Failed to release expired stock: " + e.getMessage());
+            throw new InternalServerException("Failed to expire reservations: " + e.getMessage());
         }
     }
     
@@ -198,16 +221,6 @@ public class InventoryRepository {
         }
     }
     
-    public Inventory saveInventory(final Inventory inventory) {
-        try {
-            return entityManager.merge(inventory);
-        } catch (final OptimisticLockingFailureException e) {
-            throw new InternalServerException("Stock update failed due to concurrent access. Please retry.");
-        } catch (final Exception e) {
-            throw new InternalServerException("Failed to save inventory: " + e.getMessage());
-        }
-    }
-    
     public Reservation save(final Reservation reservation) {
         try {
             if (reservation.getId() == null) {
@@ -0,0 +1,78 @@
+package com.inventory.repository;
+
+import com.inventory.dto.StockDrift;
+import com.inventory.exception.InternalServerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+@Repository
+public class ReconciliationRepository {
+    
+    private static final String STOCK_TOTALS =
+        "SELECT i.product_id, i.total_stock, i.available_stock, i.reserved_stock, i.sold_stock, " +
+        "IFNULL(r.reserved, 0) AS reserved, IFNULL(o.sold, 0) AS sold " +
+        "FROM inventory i " +
+        "LEFT JOIN (SELECT product_id, SUM(quantity) AS reserved FROM reservations " +
+        "WHERE status = 'RESERVED' AND product_id >= ? %1$s GROUP BY product_id) r ON r.product_id = i.product_id " +
+        "LEFT JOIN (SELECT product_id, SUM(quantity) AS sold FROM orders " +
+        "WHERE status = 'CONFIRMED' AND product_id >= ? %1$s GROUP BY product_id) o ON o.product_id = i.product_id " +
+        "WHERE i.product_id >= ? %2$s";
+    
+    private static final String BOUNDED_STOCK_TOTALS = String.format(STOCK_TOTALS, "AND product_id < ?", "AND i.product_id < ?");
+    private static final String UNBOUNDED_STOCK_TOTALS = String.format(STOCK_TOTALS, "", "");
+    
+    private static final String RESERVED_TOTAL =
+        "(SELECT IFNULL(SUM(r.quantity), 0) FROM reservations r WHERE r.product_id = i.product_id AND r.status = 'RESERVED')";
+    private static final String SOLD_TOTAL =
+        "(SELECT IFNULL(SUM(o.quantity), 0) FROM orders o WHERE o.product_id = i.product_id AND o.status = 'CONFIRMED')";
+    
+    private static final String REPAIR_AVAILABLE_STOCK =
+        "UPDATE inventory i " +
+        "SET reserved_stock = " + RESERVED_TOTAL + ", " +
+        "sold_stock = " + SOLD_TOTAL + ", " +
+        "available_stock = total_stock - " + RESERVED_TOTAL + " - " + SOLD_TOTAL + ", " +
+        "version = version + 1 " +
+        "WHERE i.product_id = ?";
+    
+    private final JdbcTemplate streamingTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    public ReconciliationRepository(final DataSource dataSource,
+                                    @Value("${spring.datasource.driver-class-name}") final String driverClassName) {
+        this.streamingTemplate = new JdbcTemplate(dataSource);
+        if (driverClassName.startsWith("com.mysql.")) {
+            this.streamingTemplate.setFetchSize(Integer.MIN_VALUE);
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+    
+    public void streamStockTotals(final String fromProductId, final String toProductId, final Consumer<StockDrift> consumer) {
+        try {
+            final Object[] args = toProductId == null
+                ? new Object[] {fromProductId, fromProductId, fromProductId}
+                : new Object[] {fromProductId, toProductId, fromProductId, toProductId, fromProductId, toProductId};
+            streamingTemplate.query(toProductId == null ? UNBOUNDED_STOCK_TOTALS : BOUNDED_STOCK_TOTALS, rs -> {
+                final int totalStock = rs.getInt(2);
+                final int expectedReserved = rs.getInt(6);
+                final int expectedSold = rs.getInt(7);
+                consumer.accept(new StockDrift(rs.getString(1), totalStock, rs.getInt(3), rs.getInt(4), rs.getInt(5),
+                    totalStock - expectedReserved - expectedSold, expectedReserved, expectedSold));
+            }, args);
+        } catch (final Exception e) {
+            throw new InternalServerException("Failed to aggregate stock totals: " + e.getMessage());
+        }
+    }
+    
+    public int repairAvailableStock(final String productId) {
+        try {
+            return jdbcTemplate.update(REPAIR_AVAILABLE_STOCK, productId);
+        } catch (final Exception e) {
+            throw new InternalServerException("Failed to repair available stock: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.inventory.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ExpiryWorker {
+    
+    private static final Logger log = LoggerFactory.getLogger(ExpiryWorker.class);
+    
+    private final InventoryService service;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final AtomicLong expired = new AtomicLong();
+    private ScheduledExecutorService executor;
+    
+    @Autowired
+    public ExpiryWorker(final InventoryService service,
+                        @Value("${inventory.expiry.enabled:true}") final boolean enabled,
+                        @Value("${inventory.expiry.workers:1}") final int workers,
+                        @Value("${inventory.expiry.batch-size:500}") final int batchSize,
+                        @Value("${inventory.expiry.interval-ms:1000}") final long intervalMillis) {
+        this.service = service;
+        this.enabled = enabled;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.intervalMillis = intervalMillis;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || executor != null) {
+            return;
+        }
+        final AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(workers, runnable -> {
+            final Thread thread = new Thread(runnable, "expiry-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.scheduleWithFixedDelay(this::drainSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    @PreDestroy
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+    
+    public long drain() {
+        long total = 0;
+        int claimed;
+        do {
+            claimed = service.expireReservationBatch(batchSize);
+            total += claimed;
+        } while (claimed == batchSize && !Thread.currentThread().isInterrupted());
+        expired.addAndGet(total);
+        return total;
+    }
+    
+    public long getExpiredCount() {
+        return expired.get();
+    }
+    
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (final RuntimeException e) {
+            log.warn("Reservation expiry batch failed, retrying in {} ms", intervalMillis, e);
+        }
+    }
+}
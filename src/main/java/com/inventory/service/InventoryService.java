@@ -3,13 +3,22 @@ package com.inventory.service;
 import com.inventory.entity.*;
 import com.inventory.dto.ReservationStatus;
 import com.inventory.repository.InventoryRepository;
+import com.inventory.trace.ReservationTrace;
+import com.inventory.trace.ReservationTracer;
+import com.inventory.trace.TraceOperation;
 import com.inventory.dto.*;
 import com.inventory.exception.*;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.Optional;
 
@@ -17,10 +26,14 @@ import java.util.Optional;
 public class InventoryService {
     
     private final InventoryRepository repository;
+    private final ReservationAdmission admission;
+    private final ReservationTracer tracer;
     
     @Autowired
-    public InventoryService(final InventoryRepository repository) {
+    public InventoryService(final InventoryRepository repository, final ReservationAdmission admission, final ReservationTracer tracer) {
         this.repository = repository;
+        this.admission = admission;
+        this.tracer = tracer;
     }
     
     @Transactional
@@ -48,8 +61,6 @@ public class InventoryService {
             throw new InvalidRequestException("Invalid input data");
         }
         
-        cleanupExpiredReservations();
-        
         if (!repository.existsById(productId)) {
             throw new ResourceNotFoundException("Product not found");
         }
@@ -58,64 +69,81 @@ public class InventoryService {
             .orElseThrow(() -> new ResourceNotFoundException("Inventory not found for product"));
         
         repository.updateTotalStock(productId, input.stock());
+        afterCommit(() -> admission.markAvailable(productId));
         
         final Integer newTotalStock = currentInventory.getTotalStock() + input.stock();
         
         return new StockUpdateOutput(productId, "Stock updated successfully", input.stock(), newTotalStock);
     }
     
-    @Transactional
-    public ReservationOutput reserveStock(final ReservationInput input) {
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ReservationResult reserveStock(final ReservationInput input) {
         if (input == null || input.productId() == null || input.quantity() == null) {
             throw new InvalidRequestException("Invalid input data");
         }
         
-        cleanupExpiredReservations();
+        final ReservationTrace trace = tracer.start(TraceOperation.RESERVE, input.productId(), null);
         
-        try {
-            final Inventory inventory = repository.findInventoryByProductId(input.productId())
-                .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
-            
-            if (inventory.getAvailableStock() < input.quantity()) {
-                throw new InvalidRequestException("Out of stock. Your quantity: " + input.quantity() + ", Available: " + inventory.getAvailableStock());
-            }
-            
-            inventory.setAvailableStock(inventory.getAvailableStock() - input.quantity());
-            repository.saveInventory(inventory);
-            
-            final String orderId = UUID.randomUUID().toString().split("-")[0];
-            final LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
-            
-            final Reservation savedReservation = repository.insertReservation(orderId, input.productId(), input.quantity(), expiresAt);
-            
-            return new ReservationOutput(savedReservation.getId(), orderId, input.productId(), 
-                input.quantity(), expiresAt.toString(), "RESERVED");
-            
-        } catch (final OptimisticLockingFailureException e) {
-            throw new InternalServerException("Stock reservation failed due to concurrent modification. Please retry.");
-        } catch (final Exception e) {
-            throw new InternalServerException(e.getMessage());
+        final Optional<Inventory> inventory = repository.findInventoryByProductId(input.productId());
+        if (inventory.isEmpty()) {
+            trace.rejected(RejectionReason.NOT_FOUND);
+            return ReservationResult.rejected(Rejection.notFound());
+        }
+        
+        final Integer availableStock = inventory.get().getAvailableStock();
+        if (availableStock < input.quantity()) {
+            trace.rejected(RejectionReason.OUT_OF_STOCK);
+            return ReservationResult.rejected(Rejection.outOfStock(input.quantity(), availableStock));
+        }
+        
+        if (repository.reserveAvailableStock(input.productId(), input.quantity()) == 0) {
+            trace.rejected(RejectionReason.OUT_OF_STOCK);
+            return ReservationResult.rejected(Rejection.outOfStock(input.quantity(),
+                repository.findAvailableStock(input.productId()).orElse(0)));
         }
+        
+        final String orderId = UUID.randomUUID().toString().split("-")[0];
+        final LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        
+        final Reservation savedReservation = repository.insertReservation(orderId, input.productId(), input.quantity(), expiresAt);
+        trace.orderId(orderId).outcome(ReservationStatus.RESERVED.name());
+        
+        return ReservationResult.reserved(new ReservationOutput(savedReservation.getId(), orderId, input.productId(), 
+            input.quantity(), expiresAt.toString(), "RESERVED"));
     }
     
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public OrderOutput confirmOrder(final OrderInput input) {
         if (input == null || input.orderId() == null) {
             throw new InvalidRequestException("Invalid input data");
         }
         
-        cleanupExpiredReservations();
+        final ReservationTrace trace = tracer.start(TraceOperation.CONFIRM, null, input.orderId());
         
-        final Reservation reservation = repository.findReservationByOrderId(input.orderId())
-            .orElseThrow(() -> new ResourceNotFoundException("No reservation found"));
+        final Optional<Reservation> found = repository.lockReservationByOrderId(input.orderId());
+        if (found.isEmpty()) {
+            trace.rejected(RejectionReason.NOT_FOUND);
+            throw new ResourceNotFoundException("No reservation found");
+        }
         
-        if (reservation.getStatus() == ReservationStatus.EXPIRED) {
+        final Reservation reservation = found.get();
+        trace.productId(reservation.getProductId());
+        if (reservation.getStatus() == ReservationStatus.EXPIRED
+                || (reservation.getStatus() == ReservationStatus.RESERVED && reservation.getExpiresAt().isBefore(LocalDateTime.now()))) {
+            trace.outcome(ReservationStatus.EXPIRED.name());
             throw new InvalidRequestException("Timeout. Please retry.");
         }
         
+        if (reservation.getStatus() == ReservationStatus.CONFIRMED) {
+            trace.outcome(ReservationStatus.CONFIRMED.name());
+            return new OrderOutput(input.orderId(), "CONFIRMED");
+        }
+        
         reservation.setStatus(ReservationStatus.CONFIRMED);
         repository.save(reservation);
         repository.insertOrder(input.orderId(), reservation.getProductId(), reservation.getQuantity());
+        repository.sellReservedStock(reservation.getProductId(), reservation.getQuantity());
+        trace.outcome(ReservationStatus.CONFIRMED.name());
         
         return new OrderOutput(input.orderId(), "CONFIRMED");
     }
@@ -126,22 +154,53 @@ public class InventoryService {
             throw new InvalidRequestException("Product ID is required");
         }
         
-        cleanupExpiredReservations();
-        
         final Product product = repository.findById(productId)
             .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
         
         final Inventory inventory = repository.findInventoryByProductId(productId)
             .orElseThrow(() -> new ResourceNotFoundException("Inventory not found for product"));
         
-        return new StockOutput(productId, product.getName(), inventory.getAvailableStock());
+        return new StockOutput(productId, product.getName(), inventory.getAvailableStock(),
+            inventory.getReservedStock(), inventory.getSoldStock(), inventory.getTotalStock());
     }
     
-    @Transactional
-    public void cleanupExpiredReservations() {
-        final LocalDateTime now = LocalDateTime.now();
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int expireReservationBatch(final int batchSize) {
+        final long startNanos = System.nanoTime();
+        final List<Reservation> claimed = repository.claimExpiredReservations(LocalDateTime.now(), batchSize);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        final ReservationTrace trace = tracer.startAt(TraceOperation.EXPIRE, null, null, startNanos).cleanupDone();
+        
+        final Map<String, Integer> releasedByProduct = new TreeMap<>();
+        final List<String> reservationIds = new ArrayList<>(claimed.size());
+        for (final Reservation reservation : claimed) {
+            releasedByProduct.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+            reservationIds.add(reservation.getId());
+            trace.reservation(reservation.getProductId(), reservation.getOrderId());
+        }
         
-        repository.bulkReleaseExpiredStock(now);
-        repository.bulkExpireReservations(now);
+        for (final Map.Entry<String, Integer> release : releasedByProduct.entrySet()) {
+            repository.releaseStock(release.getKey(), release.getValue());
+        }
+        repository.expireReservations(reservationIds);
+        
+        afterCommit(() -> releasedByProduct.keySet().forEach(admission::markAvailable));
+        trace.outcome(ReservationStatus.EXPIRED.name() + "(" + claimed.size() + ")");
+        return claimed.size();
+    }
+    
+    private static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,192 @@
+package com.inventory.service;
+
+import com.inventory.dto.ReconciliationJob;
+import com.inventory.dto.ReconciliationJobStatus;
+import com.inventory.dto.ReconciliationReport;
+import com.inventory.dto.StockDrift;
+import com.inventory.exception.InternalServerException;
+import com.inventory.repository.ReconciliationRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class ReconciliationService {
+    
+    private static final long KEY_SPACE = 1L << 32;
+    
+    private final ReconciliationRepository repository;
+    private final ReservationAdmission admission;
+    private final int partitions;
+    private final int maxReportedDrifts;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService scanExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ReconciliationJob lastJob;
+    
+    @Autowired
+    public ReconciliationService(final ReconciliationRepository repository,
+                                 final ReservationAdmission admission,
+                                 @Value("${inventory.reconciliation.partitions:256}") final int partitions,
+                                 @Value("${inventory.reconciliation.parallelism:4}") final int parallelism,
+                                 @Value("${inventory.reconciliation.max-reported-drifts:1000}") final int maxReportedDrifts) {
+        this.repository = repository;
+        this.admission = admission;
+        this.partitions = Math.max(1, partitions);
+        this.maxReportedDrifts = maxReportedDrifts;
+        this.jobExecutor = Executors.newSingleThreadExecutor(daemonThreads("reconciliation-job-"));
+        this.scanExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism), daemonThreads("reconciliation-scan-"));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        scanExecutor.shutdownNow();
+    }
+    
+    public Optional<ReconciliationJob> start(final boolean repair) {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        final ReconciliationJob job = new ReconciliationJob(UUID.randomUUID().toString(), ReconciliationJobStatus.RUNNING,
+            repair, LocalDateTime.now().toString(), null, null, null);
+        lastJob = job;
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (final RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return Optional.of(job);
+    }
+    
+    public Optional<ReconciliationJob> getJob(final String jobId) {
+        final ReconciliationJob job = lastJob;
+        return job != null && job.jobId().equals(jobId) ? Optional.of(job) : Optional.empty();
+    }
+    
+    private void run(final ReconciliationJob job) {
+        try {
+            final ReconciliationReport report = reconcile(job.repair());
+            lastJob = new ReconciliationJob(job.jobId(), ReconciliationJobStatus.COMPLETED, job.repair(), job.startedAt(),
+                LocalDateTime.now().toString(), report, null);
+        } catch (final RuntimeException e) {
+            lastJob = new ReconciliationJob(job.jobId(), ReconciliationJobStatus.FAILED, job.repair(), job.startedAt(),
+                LocalDateTime.now().toString(), null, e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+    
+    ReconciliationReport reconcile(final boolean repair) {
+        final long start = System.currentTimeMillis();
+        final long partitionWidth = Math.max(1, KEY_SPACE / partitions);
+        
+        final List<Future<PartitionResult>> scans = new ArrayList<>();
+        for (long from = 0; from < KEY_SPACE; from += partitionWidth) {
+            final long to = Math.min(KEY_SPACE, from + partitionWidth);
+            final long partitionStart = from;
+            scans.add(scanExecutor.submit(() -> scan(partitionStart, to, repair)));
+        }
+        
+        final PartitionResult result = new PartitionResult(maxReportedDrifts);
+        try {
+            for (final Future<PartitionResult> scan : scans) {
+                result.merge(scan.get());
+            }
+        } catch (final ExecutionException e) {
+            scans.forEach(scan -> scan.cancel(true));
+            throw new InternalServerException("Failed to reconcile stock: " + e.getCause().getMessage());
+        } catch (final InterruptedException e) {
+            scans.forEach(scan -> scan.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("Interrupted while reconciling stock");
+        }
+        
+        if (result.repaired > 0) {
+            admission.markAllAvailable();
+        }
+        
+        return new ReconciliationReport(result.scanned, result.drifted, result.repaired,
+            scans.size(), System.currentTimeMillis() - start, result.drifts);
+    }
+    
+    private PartitionResult scan(final long from, final long to, final boolean repair) {
+        final PartitionResult result = new PartitionResult(maxReportedDrifts);
+        final List<String> drifted = new ArrayList<>();
+        repository.streamStockTotals(bound(from), bound(to), totals -> {
+            result.scanned++;
+            if (totals.hasDrift()) {
+                result.drifted++;
+                result.report(totals);
+                if (repair) {
+                    drifted.add(totals.productId());
+                }
+            }
+        });
+        for (final String productId : drifted) {
+            result.repaired += repository.repairAvailableStock(productId);
+        }
+        return result;
+    }
+    
+    private static String bound(final long key) {
+        if (key <= 0) {
+            return "";
+        }
+        if (key >= KEY_SPACE) {
+            return null;
+        }
+        return String.format("%08x", key);
+    }
+    
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    private static final class PartitionResult {
+        
+        private final int maxReportedDrifts;
+        private final List<StockDrift> drifts = new ArrayList<>();
+        private long scanned;
+        private long drifted;
+        private long repaired;
+        
+        private PartitionResult(final int maxReportedDrifts) {
+            this.maxReportedDrifts = maxReportedDrifts;
+        }
+        
+        private void report(final StockDrift drift) {
+            if (drifts.size() < maxReportedDrifts) {
+                drifts.add(drift);
+            }
+        }
+        
+        private void merge(final PartitionResult other) {
+            scanned += other.scanned;
+            drifted += other.drifted;
+            repaired += other.repaired;
+            for (final StockDrift drift : other.drifts) {
+                report(drift);
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.inventory.service;
+
+import com.inventory.dto.AdmissionStats;
+import com.inventory.dto.ReservationInput;
+import com.inventory.dto.ReservationResult;
+import com.inventory.exception.Rejection;
+import com.inventory.exception.RejectionReason;
+import com.inventory.trace.ReservationTracer;
+import com.inventory.trace.TraceOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Component
+public class ReservationAdmission {
+    
+    private final Map<String, ProductLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, Long> soldOutUntil = new ConcurrentHashMap<>();
+    private final LongAdder soldOutHits = new LongAdder();
+    private final AtomicLong lastEvictionNanos = new AtomicLong(System.nanoTime());
+    private final ReservationTracer tracer;
+    
+    @Value("${inventory.admission.min-concurrency-per-product:1}")
+    private int minConcurrency;
+    
+    @Value("${inventory.admission.max-concurrency-per-product:8}")
+    private int maxConcurrency;
+    
+    @Value("${inventory.admission.queue-depth-per-product:32}")
+    private int queueDepth;
+    
+    @Value("${inventory.admission.queue-timeout-ms:500}")
+    private long queueTimeoutMillis;
+    
+    @Value("${inventory.admission.target-latency-ms:50}")
+    private long targetLatencyMillis;
+    
+    @Value("${inventory.admission.adjust-window-samples:20}")
+    private int adjustWindowSamples;
+    
+    @Value("${inventory.admission.limiter-idle-timeout-ms:60000}")
+    private long limiterIdleTimeoutMillis;
+    
+    @Value("${inventory.admission.sold-out-ttl-ms:2000}")
+    private long soldOutTtlMillis;
+    
+    @Value("${inventory.admission.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+    
+    @Autowired
+    public ReservationAdmission(final ReservationTracer tracer) {
+        this.tracer = tracer;
+    }
+    
+    public ReservationResult admit(final ReservationInput input, final Function<ReservationInput, ReservationResult> reservation) {
+        if (input == null || input.productId() == null || input.quantity() == null) {
+            return reservation.apply(input);
+        }
+        
+        final String productId = input.productId();
+        if (isSoldOut(productId)) {
+            soldOutHits.increment();
+            return ReservationResult.rejected(Rejection.outOfStock(input.quantity(), 0));
+        }
+        
+        final long admitStart = System.nanoTime();
+        ProductLimiter limiter;
+        Admission admission;
+        do {
+            limiter = limiters.computeIfAbsent(productId, id -> new ProductLimiter(id, maxConcurrency));
+            admission = limiter.acquire();
+        } while (admission == Admission.RETIRED);
+        if (admission == Admission.SHED) {
+            tracer.recordRejection(TraceOperation.ADMIT, productId, RejectionReason.THROTTLED, admitStart);
+            return ReservationResult.rejected(Rejection.throttled(retryAfterSeconds));
+        }
+        
+        final long start = System.nanoTime();
+        try {
+            final ReservationResult result = reservation.apply(input);
+            if (result.isRejected() && result.rejection().reason() == RejectionReason.OUT_OF_STOCK
+                    && result.rejection().available() != null && result.rejection().available() <= 0) {
+                soldOutUntil.put(productId, System.currentTimeMillis() + soldOutTtlMillis);
+            }
+            return result;
+        } finally {
+            limiter.release(System.nanoTime() - start);
+            evictIdleLimiters();
+        }
+    }
+    
+    public AdmissionStats getStats() {
+        return new AdmissionStats(soldOutHits.sum(), limiters.size(), soldOutUntil.size());
+    }
+    
+    public void markAvailable(final String productId) {
+        soldOutUntil.remove(productId);
+    }
+    
+    public void markAllAvailable() {
+        soldOutUntil.clear();
+    }
+    
+    private void evictIdleLimiters() {
+        final long now = System.nanoTime();
+        final long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(limiterIdleTimeoutMillis);
+        final long last = lastEvictionNanos.get();
+        if (now - last < idleTimeoutNanos || !lastEvictionNanos.compareAndSet(last, now)) {
+            return;
+        }
+        for (final ProductLimiter limiter : limiters.values()) {
+            limiter.retireIfIdleSince(now - idleTimeoutNanos);
+        }
+    }
+    
+    private boolean isSoldOut(final String productId) {
+        final Long until = soldOutUntil.get(productId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            soldOutUntil.remove(productId, until);
+            return false;
+        }
+        return true;
+    }
+    
+    private enum Admission {
+        ACQUIRED, SHED, RETIRED
+    }
+    
+    private final class ProductLimiter {
+        
+        private final String productId;
+        private int limit;
+        private int inFlight;
+        private int waiting;
+        private int windowSamples;
+        private long windowLatencyNanos;
+        private long lastUsedNanos = System.nanoTime();
+        private boolean retired;
+        
+        private ProductLimiter(final String productId, final int limit) {
+            this.productId = productId;
+            this.limit = limit;
+        }
+        
+        private synchronized Admission acquire() {
+            if (retired) {
+                return Admission.RETIRED;
+            }
+            if (inFlight < limit) {
+                inFlight++;
+                return Admission.ACQUIRED;
+            }
+            if (waiting >= queueDepth) {
+                return Admission.SHED;
+            }
+            
+            waiting++;
+            try {
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+                while (inFlight >= limit) {
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return Admission.SHED;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+                inFlight++;
+                return Admission.ACQUIRED;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Admission.SHED;
+            } finally {
+                waiting--;
+            }
+        }
+        
+        private synchronized void release(final long latencyNanos) {
+            inFlight--;
+            lastUsedNanos = System.nanoTime();
+            windowSamples++;
+            windowLatencyNanos += latencyNanos;
+            
+            if (windowSamples >= adjustWindowSamples) {
+                final long averageLatencyNanos = windowLatencyNanos / windowSamples;
+                if (averageLatencyNanos > TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis)) {
+                    limit = Math.max(minConcurrency, limit * 3 / 4);
+                } else if (limit < maxConcurrency) {
+                    limit++;
+                }
+                windowSamples = 0;
+                windowLatencyNanos = 0;
+            }
+            notifyAll();
+        }
+        
+        private synchronized void retireIfIdleSince(final long idleSinceNanos) {
+            if (inFlight == 0 && waiting == 0 && !retired && lastUsedNanos - idleSinceNanos <= 0) {
+                retired = true;
+                limiters.remove(productId, this);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.inventory.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StockCounterBackfill {
+    
+    private static final Logger log = LoggerFactory.getLogger(StockCounterBackfill.class);
+    
+    private final ReconciliationService reconciliation;
+    private final boolean enabled;
+    
+    @Autowired
+    public StockCounterBackfill(final ReconciliationService reconciliation,
+                                @Value("${inventory.reconciliation.backfill-on-startup:false}") final boolean enabled) {
+        this.reconciliation = reconciliation;
+        this.enabled = enabled;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        reconciliation.start(true).ifPresentOrElse(
+            job -> log.info("Started stock counter backfill as reconciliation job {}", job.jobId()),
+            () -> log.warn("Stock counter backfill skipped, a reconciliation job is already running"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.inventory.trace;
+
+import com.inventory.exception.RejectionReason;
+import org.springframework.transaction.support.TransactionSynchronization;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReservationTrace implements TransactionSynchronization {
+    
+    static final ReservationTrace NOOP = new ReservationTrace(null, null, null, null, false, 0L);
+    
+    private final ReservationTracer tracer;
+    private final TraceOperation operation;
+    private final boolean sampled;
+    private final long startNanos;
+    private String productId;
+    private String orderId;
+    private String outcome;
+    private boolean rejected;
+    private List<TraceReservation> reservations;
+    private long lastMarkNanos;
+    private long cleanupNanos;
+    private long queryNanos;
+    private long commitStartNanos;
+    
+    ReservationTrace(final ReservationTracer tracer, final TraceOperation operation, final String productId,
+                     final String orderId, final boolean sampled, final long startNanos) {
+        this.tracer = tracer;
+        this.operation = operation;
+        this.productId = productId;
+        this.orderId = orderId;
+        this.sampled = sampled;
+        this.startNanos = startNanos;
+        this.lastMarkNanos = startNanos;
+    }
+    
+    public ReservationTrace cleanupDone() {
+        if (tracer != null) {
+            final long now = System.nanoTime();
+            cleanupNanos += now - lastMarkNanos;
+            lastMarkNanos = now;
+        }
+        return this;
+    }
+    
+    public ReservationTrace queryDone() {
+        if (tracer != null) {
+            final long now = System.nanoTime();
+            queryNanos += now - lastMarkNanos;
+            lastMarkNanos = now;
+        }
+        return this;
+    }
+    
+    public ReservationTrace productId(final String productId) {
+        if (tracer != null) {
+            this.productId = productId;
+        }
+        return this;
+    }
+    
+    public ReservationTrace orderId(final String orderId) {
+        if (tracer != null) {
+            this.orderId = orderId;
+        }
+        return this;
+    }
+    
+    public ReservationTrace outcome(final String outcome) {
+        if (tracer != null) {
+            this.outcome = outcome;
+        }
+        return this;
+    }
+    
+    public ReservationTrace reservation(final String productId, final String orderId) {
+        if (tracer != null) {
+            if (reservations == null) {
+                reservations = new ArrayList<>();
+            }
+            reservations.add(new TraceReservation(productId, orderId));
+        }
+        return this;
+    }
+    
+    public ReservationTrace rejected(final RejectionReason reason) {
+        if (tracer != null) {
+            this.outcome = reason.name();
+            this.rejected = true;
+        }
+        return this;
+    }
+    
+    boolean isRejected() {
+        return rejected;
+    }
+    
+    @Override
+    public void beforeCommit(final boolean readOnly) {
+        queryDone();
+        commitStartNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void afterCompletion(final int status) {
+        if (tracer == null) {
+            return;
+        }
+        final long endNanos = System.nanoTime();
+        final long commitNanos = commitStartNanos == 0L ? 0L : endNanos - commitStartNanos;
+        tracer.complete(this, sampled, endNanos - startNanos, status == STATUS_COMMITTED, commitNanos);
+    }
+    
+    TraceEvent toEvent(final long sequence, final long totalNanos, final boolean committed, final long commitNanos) {
+        return new TraceEvent(sequence, System.currentTimeMillis(), operation, productId, orderId,
+            cleanupNanos / 1_000, queryNanos / 1_000, commitNanos / 1_000, totalNanos / 1_000,
+            outcome != null ? outcome : (committed ? "COMMITTED" : "ROLLED_BACK"), committed,
+            reservations != null ? List.copyOf(reservations) : List.of());
+    }
+}
@@ -0,0 +1,114 @@
+package com.inventory.trace;
+
+import com.inventory.exception.RejectionReason;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Component
+public class ReservationTracer {
+    
+    private final AtomicReferenceArray<TraceEvent> ring;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile boolean enabled;
+    private volatile int sampleEvery;
+    private volatile int rejectionSampleEvery;
+    private volatile long slowThresholdNanos;
+    
+    public ReservationTracer(@Value("${inventory.trace.enabled:true}") final boolean enabled,
+                             @Value("${inventory.trace.capacity:4096}") final int capacity,
+                             @Value("${inventory.trace.sample-every:100}") final int sampleEvery,
+                             @Value("${inventory.trace.rejection-sample-every:20}") final int rejectionSampleEvery,
+                             @Value("${inventory.trace.slow-threshold-ms:500}") final long slowThresholdMillis) {
+        final int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.enabled = enabled;
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.rejectionSampleEvery = Math.max(1, rejectionSampleEvery);
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+    
+    public ReservationTrace start(final TraceOperation operation, final String productId, final String orderId) {
+        return startAt(operation, productId, orderId, System.nanoTime());
+    }
+    
+    public ReservationTrace startAt(final TraceOperation operation, final String productId, final String orderId, final long startNanos) {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return ReservationTrace.NOOP;
+        }
+        final boolean sampled = operation == TraceOperation.EXPIRE || started.getAndIncrement() % sampleEvery == 0;
+        final ReservationTrace trace = new ReservationTrace(this, operation, productId, orderId, sampled, startNanos);
+        TransactionSynchronizationManager.registerSynchronization(trace);
+        return trace;
+    }
+    
+    public void recordRejection(final TraceOperation operation, final String productId,
+                                final RejectionReason reason, final long startNanos) {
+        if (!enabled || rejected.getAndIncrement() % rejectionSampleEvery != 0) {
+            return;
+        }
+        final ReservationTrace trace = new ReservationTrace(this, operation, productId, null, false, startNanos).rejected(reason);
+        store(trace, System.nanoTime() - startNanos, false, 0L);
+    }
+    
+    void complete(final ReservationTrace trace, final boolean sampled, final long totalNanos,
+                  final boolean committed, final long commitNanos) {
+        final boolean keep = trace.isRejected()
+            ? rejected.getAndIncrement() % rejectionSampleEvery == 0 || totalNanos >= slowThresholdNanos
+            : sampled || !committed || totalNanos >= slowThresholdNanos;
+        if (keep) {
+            store(trace, totalNanos, committed, commitNanos);
+        }
+    }
+    
+    private void store(final ReservationTrace trace, final long totalNanos, final boolean committed, final long commitNanos) {
+        final long next = sequence.getAndIncrement();
+        ring.lazySet((int) (next & mask), trace.toEvent(next, totalNanos, committed, commitNanos));
+    }
+    
+    public List<TraceEvent> dump(final String productId, final String orderId, final int limit) {
+        final long end = sequence.get();
+        final long begin = Math.max(0, end - ring.length());
+        final List<TraceEvent> events = new ArrayList<>();
+        for (long i = end - 1; i >= begin && events.size() < limit; i--) {
+            final TraceEvent event = ring.get((int) (i & mask));
+            if (event == null || event.sequence() != i) {
+                continue;
+            }
+            if (!event.matches(productId, orderId)) {
+                continue;
+            }
+            events.add(event);
+        }
+        return events;
+    }
+    
+    public void configure(final Boolean enabled, final Integer sampleEvery, final Integer rejectionSampleEvery,
+                          final Long slowThresholdMillis) {
+        if (enabled != null) {
+            this.enabled = enabled;
+        }
+        if (sampleEvery != null) {
+            this.sampleEvery = Math.max(1, sampleEvery);
+        }
+        if (rejectionSampleEvery != null) {
+            this.rejectionSampleEvery = Math.max(1, rejectionSampleEvery);
+        }
+        if (slowThresholdMillis != null) {
+            this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        }
+    }
+    
+    public TraceSettings getSettings() {
+        return new TraceSettings(enabled, sampleEvery, rejectionSampleEvery, TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos), ring.length());
+    }
+}
@@ -0,0 +1,37 @@
+package com.inventory.trace;
+
+import java.util.List;
+
+public record TraceEvent(
+    long sequence,
+    long timestampMillis,
+    TraceOperation operation,
+    String productId,
+    String orderId,
+    long cleanupMicros,
+    long queryMicros,
+    long commitMicros,
+    long totalMicros,
+    String outcome,
+    boolean committed,
+    List<TraceReservation> reservations
+) {
+    
+    boolean matches(final String productId, final String orderId) {
+        if (matches(this.productId, this.orderId, productId, orderId)) {
+            return true;
+        }
+        for (final TraceReservation reservation : reservations) {
+            if (matches(reservation.productId(), reservation.orderId(), productId, orderId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean matches(final String eventProductId, final String eventOrderId,
+                                   final String productId, final String orderId) {
+        return (productId == null || productId.equals(eventProductId))
+            && (orderId == null || orderId.equals(eventOrderId));
+    }
+}
@@ -0,0 +1,5 @@
+package com.inventory.trace;
+
+public enum TraceOperation {
+    ADMIT, RESERVE, CONFIRM, EXPIRE
+}
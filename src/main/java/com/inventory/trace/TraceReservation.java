@@ -0,0 +1,3 @@
+package com.inventory.trace;
+
+public record TraceReservation(String productId, String orderId) {}
@@ -0,0 +1,3 @@
+package com.inventory.trace;
+
+public record TraceSettings(Boolean enabled, Integer sampleEvery, Integer rejectionSampleEvery, Long slowThresholdMillis, Integer capacity) {}
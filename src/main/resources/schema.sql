@@ -14,6 +14,8 @@ CREATE TABLE IF NOT EXISTS inventory (
     product_id VARCHAR(8) PRIMARY KEY,
     total_stock INT NOT NULL DEFAULT 0,
     available_stock INT NOT NULL DEFAULT 0,
+    reserved_stock INT NOT NULL DEFAULT 0,
+    sold_stock INT NOT NULL DEFAULT 0,
     version BIGINT NOT NULL DEFAULT 0,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     CONSTRAINT fk_inventory_product_id FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE
@@ -30,7 +32,8 @@ CREATE TABLE IF NOT EXISTS reservations (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (product_id) REFERENCES products(id),
     INDEX idx_order_status (order_id, status),
-    INDEX idx_expires_at (expires_at)
+    INDEX idx_expires_at (expires_at),
+    INDEX idx_status_expires_at (status, expires_at)
 );
 
 -- Orders table with product reference and cascade delete
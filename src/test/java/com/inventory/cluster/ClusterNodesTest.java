@@ -0,0 +1,103 @@
+package com.inventory.cluster;
+
+import com.inventory.InventoryApplication;
+import com.inventory.dto.ProductInput;
+import com.inventory.dto.StockOutput;
+import com.inventory.service.InventoryService;
+import com.inventory.trace.ReservationTracer;
+import com.inventory.trace.TraceEvent;
+import com.inventory.trace.TraceOperation;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClusterNodesTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        final int portA = freePort();
+        final int portB = freePort();
+        nodeA = startNode(portA, portB);
+        nodeB = startNode(portB, portA);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void nonOwnerForwardsReservationToOwnerWhichAppliesItOnce() throws Exception {
+        final InventoryService service = nodeA.getBean(InventoryService.class);
+        final String productId = service.addProduct(new ProductInput("cluster-" + UUID.randomUUID(), 10)).productId();
+
+        final String owner = nodeA.getBean(ClusterMembership.class).ownerOf(productId);
+        assertEquals(owner, nodeB.getBean(ClusterMembership.class).ownerOf(productId));
+        final ConfigurableApplicationContext ownerNode = owner.equals(selfOf(nodeA)) ? nodeA : nodeB;
+        final ConfigurableApplicationContext otherNode = ownerNode == nodeA ? nodeB : nodeA;
+
+        final HttpResponse<String> response = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create(selfOf(otherNode) + "/products/reservation"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"productId\":\"" + productId + "\",\"quantity\":3}"))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"status\":\"RESERVED\""), response.body());
+        assertEquals(1, reservations(ownerNode, productId).size());
+        assertEquals(0, reservations(otherNode, productId).size());
+
+        final StockOutput stock = service.getAvailableStock(productId);
+        assertEquals(3, stock.reservedStock());
+        assertEquals(7, stock.availableStock());
+    }
+
+    private static List<TraceEvent> reservations(final ConfigurableApplicationContext node, final String productId) {
+        return node.getBean(ReservationTracer.class).dump(productId, null, 10).stream()
+            .filter(event -> event.operation() == TraceOperation.RESERVE)
+            .toList();
+    }
+
+    private static String selfOf(final ConfigurableApplicationContext node) {
+        return node.getBean(ClusterMembership.class).getSelf();
+    }
+
+    private static ConfigurableApplicationContext startNode(final int port, final int peerPort) {
+        return new SpringApplicationBuilder(InventoryApplication.class).run(
+            "--server.port=" + port,
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:cluster_db;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+            "--inventory.cluster.enabled=true",
+            "--inventory.cluster.self=http://127.0.0.1:" + port,
+            "--inventory.cluster.members=http://127.0.0.1:" + peerPort,
+            "--inventory.trace.sample-every=1");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
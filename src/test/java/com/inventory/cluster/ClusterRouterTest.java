@@ -0,0 +1,142 @@
+package com.inventory.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.dto.ReservationInput;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClusterRouterTest {
+
+    private static final String SELF = "http://127.0.0.1:1";
+
+    private HttpServer owner;
+    private String ownerUrl;
+    private final AtomicInteger forwardedCalls = new AtomicInteger();
+    private final AtomicReference<String> forwardedPath = new AtomicReference<>();
+    private final AtomicReference<String> forwardedHeader = new AtomicReference<>();
+    private final AtomicReference<String> forwardedBody = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        owner = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        owner.createContext("/", exchange -> {
+            forwardedCalls.incrementAndGet();
+            forwardedPath.set(exchange.getRequestURI().toString());
+            forwardedHeader.set(exchange.getRequestHeaders().getFirst(ClusterRouter.FORWARDED_HEADER));
+            forwardedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            final byte[] response = "{\"owner\":true}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.getResponseHeaders().add(HttpHeaders.RETRY_AFTER, "3");
+            exchange.sendResponseHeaders(429, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        owner.start();
+        ownerUrl = "http://127.0.0.1:" + owner.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        owner.stop(0);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void forwardsToOwnerAndCopiesStatusAndRetryAfter() {
+        final ClusterRouter router = router(ownerUrl);
+        bindRequest("POST", "/products/reservation", null);
+
+        final ResponseEntity<?> response = router.routeOrElse("p1", new ReservationInput("p1", 2), ClusterRouterTest::local);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertArrayEquals("{\"owner\":true}".getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(1, forwardedCalls.get());
+        assertEquals("/products/reservation", forwardedPath.get());
+        assertEquals(SELF, forwardedHeader.get());
+        assertEquals("{\"productId\":\"p1\",\"quantity\":2}", forwardedBody.get());
+    }
+
+    @Test
+    void forwardsEncodedPathAndQueryUnchanged() {
+        final ClusterRouter router = router(ownerUrl);
+        final MockHttpServletRequest request = bindRequest("GET", "/products/stock/a%2Fb%20c", null);
+        request.setQueryString("verbose=true");
+
+        router.routeOrElse("a/b c", null, ClusterRouterTest::local);
+
+        assertEquals("/products/stock/a%2Fb%20c?verbose=true", forwardedPath.get());
+    }
+
+    @Test
+    void servesForwardedRequestsLocallyToPreventLoops() {
+        final ClusterRouter router = router(ownerUrl);
+        bindRequest("POST", "/products/reservation", ownerUrl);
+
+        final ResponseEntity<?> response = router.routeOrElse("p1", new ReservationInput("p1", 2), ClusterRouterTest::local);
+
+        assertEquals("local", response.getBody());
+        assertEquals(0, forwardedCalls.get());
+    }
+
+    @Test
+    void servesLocallyWhenThisNodeOwnsTheProduct() {
+        final ClusterRouter router = new ClusterRouter(new ClusterMembership(true, SELF, "", 128), new ObjectMapper(), 200, 2000);
+        bindRequest("GET", "/products/stock/p1", null);
+
+        assertEquals("local", router.routeOrElse("p1", null, ClusterRouterTest::local).getBody());
+        assertEquals(0, forwardedCalls.get());
+    }
+
+    @Test
+    void fallsBackToLocalWhenOwnerRefusesConnections() throws IOException {
+        final int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        final ClusterRouter router = router("http://127.0.0.1:" + closedPort);
+        bindRequest("GET", "/products/stock/p1", null);
+
+        assertEquals("local", router.routeOrElse("p1", null, ClusterRouterTest::local).getBody());
+    }
+
+    private static ClusterRouter router(final String ownerUrl) {
+        final ClusterMembership membership = new ClusterMembership(true, SELF, ownerUrl, 128) {
+            @Override
+            public String ownerOf(final String productId) {
+                return ownerUrl;
+            }
+        };
+        return new ClusterRouter(membership, new ObjectMapper(), 200, 2000);
+    }
+
+    private static MockHttpServletRequest bindRequest(final String method, final String uri, final String forwardedBy) {
+        final MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (forwardedBy != null) {
+            request.addHeader(ClusterRouter.FORWARDED_HEADER, forwardedBy);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return request;
+    }
+
+    private static ResponseEntity<?> local() {
+        return ResponseEntity.ok("local");
+    }
+}
@@ -0,0 +1,47 @@
+package com.inventory.cluster;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    void ownershipIsDeterministicAcrossRingInstances() {
+        final List<String> members = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+        final ConsistentHashRing first = new ConsistentHashRing(members, 128);
+        final ConsistentHashRing second = new ConsistentHashRing(List.of("http://c:8080", "http://a:8080", "http://b:8080"), 128);
+
+        for (int i = 0; i < KEYS; i++) {
+            final String key = "product-" + i;
+            assertEquals(first.ownerOf(key), second.ownerOf(key));
+            assertTrue(members.contains(first.ownerOf(key)));
+        }
+    }
+
+    @Test
+    void addingNodeOnlyMovesKeysToTheNewNode() {
+        final ConsistentHashRing before = new ConsistentHashRing(List.of("http://a:8080", "http://b:8080", "http://c:8080"), 128);
+        final ConsistentHashRing after = new ConsistentHashRing(List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080"), 128);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            final String key = "product-" + i;
+            if (!before.ownerOf(key).equals(after.ownerOf(key))) {
+                assertEquals("http://d:8080", after.ownerOf(key));
+                moved++;
+            }
+        }
+        assertTrue(moved > KEYS / 8 && moved < KEYS * 3 / 8, "moved " + moved + " of " + KEYS);
+    }
+
+    @Test
+    void emptyRingHasNoOwner() {
+        assertNull(new ConsistentHashRing(List.of(), 128).ownerOf("product-1"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.inventory.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.dto.ReservationOutput;
+import com.inventory.dto.StockOutput;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class BinaryCodecBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void reservationOutput() throws Exception {
+        final ReservationOutput output = new ReservationOutput("3f2a9c1e-7b4d-4e8a-9c2f-1a2b3c4d5e6f",
+            "8e7d6c5b-4a39-4281-9f0e-d1c2b3a4f5e6", "a1b2c3d4", 2, "2026-01-01T12:00:00", "RESERVED");
+        compare("ReservationOutput", output, BinaryCodec::encode, BinaryCodec::decodeReservationOutput,
+            ReservationOutput.class);
+    }
+
+    @Test
+    void stockOutput() throws Exception {
+        final StockOutput output = new StockOutput("a1b2c3d4", "Wireless Mouse", 148, 12, 340, 500);
+        compare("StockOutput", output, BinaryCodec::encode, BinaryCodec::decodeStockOutput, StockOutput.class);
+    }
+
+    private <T> void compare(final String name, final T value, final Function<T, byte[]> encoder,
+                             final Function<byte[], T> decoder, final Class<T> type) throws Exception {
+        final byte[] binary = encoder.apply(value);
+        final byte[] json = objectMapper.writeValueAsBytes(value);
+        assertEquals(value, decoder.apply(binary));
+        assertEquals(value, objectMapper.readValue(json, type));
+
+        final double binaryEncode = measure(() -> encoder.apply(value));
+        final double jsonEncode = measure(() -> objectMapper.writeValueAsBytes(value));
+        final double binaryDecode = measure(() -> decoder.apply(binary));
+        final double jsonDecode = measure(() -> objectMapper.readValue(json, type));
+
+        System.out.printf("%s: payload binary=%d B json=%d B (%.0f%%), encode binary=%.0f ns json=%.0f ns, decode binary=%.0f ns json=%.0f ns%n",
+            name, binary.length, json.length, 100.0 * binary.length / json.length,
+            binaryEncode, jsonEncode, binaryDecode, jsonDecode);
+        assertTrue(binary.length < json.length);
+    }
+
+    private static double measure(final Operation operation) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += operation.run().hashCode();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += operation.run().hashCode();
+        }
+        final double nanosPerOperation = (double) (System.nanoTime() - start) / MEASURED_ITERATIONS;
+        if (sink == 42) {
+            System.out.println();
+        }
+        return nanosPerOperation;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        Object run() throws Exception;
+    }
+}
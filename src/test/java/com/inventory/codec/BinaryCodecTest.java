@@ -0,0 +1,96 @@
+package com.inventory.codec;
+
+import com.inventory.dto.OrderInput;
+import com.inventory.dto.OrderOutput;
+import com.inventory.dto.ReservationInput;
+import com.inventory.dto.ReservationOutput;
+import com.inventory.dto.StockInput;
+import com.inventory.dto.StockOutput;
+import com.inventory.dto.StockUpdateOutput;
+import com.inventory.exception.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryCodecTest {
+
+    @Test
+    void roundTripsAllFields() {
+        final ReservationOutput reservation = new ReservationOutput("r1", "o1", "p1", 3, "2026-01-01T00:00:00", "RESERVED");
+        assertEquals(reservation, BinaryCodec.decodeReservationOutput(BinaryCodec.encode(reservation)));
+
+        final StockOutput stock = new StockOutput("p1", "Widget", 7, 2, 1, 10);
+        assertEquals(stock, BinaryCodec.decodeStockOutput(BinaryCodec.encode(stock)));
+
+        final StockUpdateOutput update = new StockUpdateOutput("p1", "Stock updated", 5, 15);
+        assertEquals(update, BinaryCodec.decodeStockUpdateOutput(BinaryCodec.encode(update)));
+
+        final ReservationInput input = new ReservationInput("p1", 4);
+        assertEquals(input, BinaryCodec.decodeReservationInput(BinaryCodec.encode(input)));
+
+        final OrderInput order = new OrderInput("c3d4e5f6");
+        assertEquals(order, BinaryCodec.decodeOrderInput(BinaryCodec.encode(order)));
+
+        final OrderOutput confirmed = new OrderOutput("c3d4e5f6", "CONFIRMED");
+        assertEquals(confirmed, BinaryCodec.decodeOrderOutput(BinaryCodec.encode(confirmed)));
+
+        final ErrorResponse error = new ErrorResponse("e1", "Insufficient stock", 400, false);
+        assertEquals(error, BinaryCodec.decodeErrorResponse(BinaryCodec.encode(error)));
+    }
+
+    @Test
+    void roundTripsNullFields() {
+        final ReservationOutput reservation = new ReservationOutput(null, "o1", null, null, "2026-01-01T00:00:00", null);
+        assertEquals(reservation, BinaryCodec.decodeReservationOutput(BinaryCodec.encode(reservation)));
+
+        final StockOutput stock = new StockOutput(null, null, null, null, null, null);
+        assertEquals(stock, BinaryCodec.decodeStockOutput(BinaryCodec.encode(stock)));
+
+        assertEquals(new StockInput(null), BinaryCodec.decodeStockInput(BinaryCodec.encode(new StockInput(null))));
+
+        final ErrorResponse error = new ErrorResponse(null, "Endpoint not found", 404, null);
+        assertEquals(error, BinaryCodec.decodeErrorResponse(BinaryCodec.encode(error)));
+    }
+
+    @Test
+    void roundTripsNegativeAndExtremeIntegers() {
+        for (final int value : new int[] {0, -1, 1, -64, 64, -65, 8191, -8192, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            final StockInput input = new StockInput(value);
+            assertEquals(input, BinaryCodec.decodeStockInput(BinaryCodec.encode(input)));
+        }
+        final StockOutput stock = new StockOutput("p1", "Widget", -5, Integer.MIN_VALUE, Integer.MAX_VALUE, -1);
+        assertEquals(stock, BinaryCodec.decodeStockOutput(BinaryCodec.encode(stock)));
+    }
+
+    @Test
+    void roundTripsNonAsciiNames() {
+        for (final String name : new String[] {"Café crème", "Ручка", "鉛筆", "Emoji 😀 pack", "ÿ߿ࠀ￿"}) {
+            final StockOutput stock = new StockOutput("p1", name, 1, 0, 0, 1);
+            assertEquals(stock, BinaryCodec.decodeStockOutput(BinaryCodec.encode(stock)));
+        }
+    }
+
+    @Test
+    void encodesLoneSurrogatesLikeUtf8Encoder() {
+        final String name = "a\uD800b\uDC00";
+        final byte[] encoded = BinaryCodec.encode(new StockOutput("p1", name, 1, 0, 0, 1));
+
+        assertEquals(new String(name.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+            BinaryCodec.decodeStockOutput(encoded).productName());
+    }
+
+    @Test
+    void rejectsUnsupportedAndTruncatedPayloads() {
+        assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeStockInput(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeStockInput(new byte[] {2, 1, 2}));
+
+        final byte[] encoded = BinaryCodec.encode(new StockOutput("p1", "Widget", 7, 2, 1, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> BinaryCodec.decodeStockOutput(Arrays.copyOf(encoded, encoded.length - 3)));
+        assertThrows(IllegalArgumentException.class,
+            () -> BinaryCodec.decodeOrderInput(new byte[] {1, 1, (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}));
+    }
+}
@@ -0,0 +1,47 @@
+package com.inventory.repository;
+
+import com.inventory.dto.OrderInput;
+import com.inventory.dto.ProductInput;
+import com.inventory.dto.ReservationInput;
+import com.inventory.dto.ReservationResult;
+import com.inventory.dto.StockOutput;
+import com.inventory.service.InventoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ReconciliationRepositoryTest {
+
+    @Autowired
+    private InventoryService service;
+
+    @Autowired
+    private ReconciliationRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void repairRecomputesCountersAndAvailableStockFromTotals() {
+        final String productId = service.addProduct(new ProductInput("repair-" + UUID.randomUUID(), 50)).productId();
+        final ReservationResult confirmed = service.reserveStock(new ReservationInput(productId, 2));
+        service.reserveStock(new ReservationInput(productId, 2));
+        service.reserveStock(new ReservationInput(productId, 2));
+        service.confirmOrder(new OrderInput(confirmed.output().orderId()));
+
+        jdbcTemplate.update("UPDATE inventory SET available_stock = 50, reserved_stock = 0, sold_stock = 0 WHERE product_id = ?",
+            productId);
+
+        assertEquals(1, repository.repairAvailableStock(productId));
+        final StockOutput stock = service.getAvailableStock(productId);
+        assertEquals(4, stock.reservedStock());
+        assertEquals(2, stock.soldStock());
+        assertEquals(44, stock.availableStock());
+        assertEquals(50, stock.totalStock());
+    }
+}
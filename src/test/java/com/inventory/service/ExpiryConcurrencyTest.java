@@ -0,0 +1,95 @@
+package com.inventory.service;
+
+import com.inventory.dto.ProductInput;
+import com.inventory.dto.ReservationInput;
+import com.inventory.dto.ReservationResult;
+import com.inventory.dto.StockOutput;
+import com.inventory.exception.Rejection;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ExpiryConcurrencyTest {
+
+    private static final int STOCK = 500;
+    private static final int RESERVATIONS = 200;
+    private static final int WORKERS = 8;
+    private static final int BATCH_SIZE = 7;
+
+    @Autowired
+    private InventoryService service;
+
+    @Autowired
+    private ReservationAdmission admission;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentExpiryBatchesReleaseEachReservationOnce() throws Exception {
+        final String productId = service.addProduct(new ProductInput("expiry-" + UUID.randomUUID(), STOCK)).productId();
+        for (int i = 0; i < RESERVATIONS; i++) {
+            assertFalse(service.reserveStock(new ReservationInput(productId, 2)).isRejected());
+        }
+        jdbcTemplate.update("UPDATE reservations SET expires_at = ? WHERE product_id = ?",
+            LocalDateTime.now().minusMinutes(1), productId);
+
+        markSoldOut(productId);
+        markSoldOut("untouched");
+        
+        final AtomicInteger expired = new AtomicInteger();
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < WORKERS; t++) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                int claimed;
+                do {
+                    claimed = service.expireReservationBatch(BATCH_SIZE);
+                    expired.addAndGet(claimed);
+                } while (claimed > 0);
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        final StockOutput stock = service.getAvailableStock(productId);
+        assertEquals(RESERVATIONS, expired.get());
+        assertEquals(STOCK, stock.availableStock());
+        assertEquals(0, stock.reservedStock());
+        assertEquals(STOCK, stock.availableStock() + stock.reservedStock() + stock.soldStock());
+        assertEquals(RESERVATIONS, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM reservations WHERE product_id = ? AND status = 'EXPIRED'", Integer.class, productId));
+        
+        assertFalse(admission.admit(new ReservationInput(productId, 1), ExpiryConcurrencyTest::accepted).isRejected());
+        assertTrue(admission.admit(new ReservationInput("untouched", 1), ExpiryConcurrencyTest::accepted).isRejected());
+    }
+
+    private void markSoldOut(final String productId) {
+        admission.admit(new ReservationInput(productId, 1), in -> ReservationResult.rejected(Rejection.outOfStock(1, 0)));
+    }
+
+    private static ReservationResult accepted(final ReservationInput input) {
+        return ReservationResult.reserved(null);
+    }
+}
@@ -0,0 +1,106 @@
+package com.inventory.service;
+
+import com.inventory.controller.AdminController;
+import com.inventory.dto.ProductInput;
+import com.inventory.dto.ReconciliationJob;
+import com.inventory.dto.ReconciliationJobStatus;
+import com.inventory.dto.ReconciliationReport;
+import com.inventory.dto.StockDrift;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ReconciliationIntegrationTest {
+
+    private static final int PRODUCTS = 12;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ReconciliationService reconciliation;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void detectsAndRepairsDriftAcrossPartitions() throws Exception {
+        final List<String> productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds.add(inventoryService.addProduct(new ProductInput("reconcile-" + UUID.randomUUID(), 20)).productId());
+        }
+        final List<String> drifted = productIds.subList(0, PRODUCTS / 2);
+        for (final String productId : drifted) {
+            jdbcTemplate.update("UPDATE inventory SET reserved_stock = reserved_stock + 5 WHERE product_id = ?", productId);
+        }
+        assertTrue(drifted.stream().map(id -> id.substring(0, 2)).distinct().count() > 1,
+            "drifted products should span several partitions: " + drifted);
+
+        final ReconciliationReport detected = run(false);
+        assertEquals(Set.copyOf(drifted), driftedAmong(detected, productIds));
+        assertTrue(detected.driftedProducts() >= drifted.size());
+        assertEquals(0L, detected.repairedProducts());
+        assertEquals(256, detected.partitions());
+        for (final StockDrift drift : detected.drifts()) {
+            if (drifted.contains(drift.productId())) {
+                assertEquals(5, drift.reservedStock());
+                assertEquals(0, drift.expectedReservedStock());
+            }
+        }
+
+        final ReconciliationReport repaired = run(true);
+        assertEquals(Set.copyOf(drifted), driftedAmong(repaired, productIds));
+        assertTrue(repaired.repairedProducts() >= drifted.size());
+
+        assertTrue(driftedAmong(run(false), productIds).isEmpty());
+        for (final String productId : drifted) {
+            assertEquals(0, inventoryService.getAvailableStock(productId).reservedStock());
+            assertEquals(20, inventoryService.getAvailableStock(productId).availableStock());
+        }
+    }
+
+    @Test
+    void adminEndpointsAreDisabledByDefault() {
+        assertTrue(context.getBeansOfType(AdminController.class).isEmpty());
+    }
+
+    private static Set<String> driftedAmong(final ReconciliationReport report, final List<String> productIds) {
+        return report.drifts().stream()
+            .map(StockDrift::productId)
+            .filter(productIds::contains)
+            .collect(Collectors.toSet());
+    }
+
+    private ReconciliationReport run(final boolean repair) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        Optional<ReconciliationJob> started = reconciliation.start(repair);
+        while (started.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            started = reconciliation.start(repair);
+        }
+        final String jobId = started.orElseThrow().jobId();
+        ReconciliationJob job = reconciliation.getJob(jobId).orElseThrow();
+        while (job.status() == ReconciliationJobStatus.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = reconciliation.getJob(jobId).orElseThrow();
+        }
+        assertEquals(ReconciliationJobStatus.COMPLETED, job.status(), job.error());
+        return job.report();
+    }
+}
@@ -0,0 +1,99 @@
+package com.inventory.service;
+
+import com.inventory.dto.ReconciliationJob;
+import com.inventory.dto.ReconciliationJobStatus;
+import com.inventory.dto.StockDrift;
+import com.inventory.repository.ReconciliationRepository;
+import com.inventory.trace.ReservationTracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ReconciliationServiceTest {
+
+    private static final int PARALLELISM = 3;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger scans = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        final ReconciliationRepository repository = mock(ReconciliationRepository.class);
+        doAnswer(invocation -> {
+            final int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+                final Consumer<StockDrift> consumer = invocation.getArgument(2);
+                consumer.accept(new StockDrift(invocation.getArgument(0), 10, 10, 0, 0, 10, 0, 0));
+            } finally {
+                inFlight.decrementAndGet();
+                scans.incrementAndGet();
+            }
+            return null;
+        }).when(repository).streamStockTotals(anyString(), any(), any());
+
+        final ReservationAdmission admission = new ReservationAdmission(new ReservationTracer(false, 16, 1, 1, 500));
+        service = new ReconciliationService(repository, admission, 32, PARALLELISM, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void runsInBackgroundAndRejectsConcurrentJobs() throws Exception {
+        final Optional<ReconciliationJob> first = service.start(false);
+        assertTrue(first.isPresent());
+        assertEquals(ReconciliationJobStatus.RUNNING, first.get().status());
+        assertTrue(service.start(true).isEmpty());
+
+        release.countDown();
+        final ReconciliationJob finished = awaitFinished(first.get().jobId());
+
+        assertEquals(ReconciliationJobStatus.COMPLETED, finished.status());
+        assertEquals(32L, finished.report().productsScanned());
+        assertEquals(32, finished.report().partitions());
+    }
+
+    @Test
+    void boundsConcurrentScansByParallelism() throws Exception {
+        final String jobId = service.start(false).orElseThrow().jobId();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight.get() < PARALLELISM && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        awaitFinished(jobId);
+        assertEquals(PARALLELISM, maxInFlight.get());
+        assertEquals(32, scans.get());
+    }
+
+    private ReconciliationJob awaitFinished(final String jobId) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ReconciliationJob job = service.getJob(jobId).orElseThrow();
+        while (job.status() == ReconciliationJobStatus.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = service.getJob(jobId).orElseThrow();
+        }
+        return job;
+    }
+}
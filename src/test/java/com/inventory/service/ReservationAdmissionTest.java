@@ -0,0 +1,176 @@
+package com.inventory.service;
+
+import com.inventory.dto.ReservationInput;
+import com.inventory.dto.ReservationOutput;
+import com.inventory.dto.ReservationResult;
+import com.inventory.exception.Rejection;
+import com.inventory.exception.RejectionReason;
+import com.inventory.trace.ReservationTracer;
+import com.inventory.trace.TraceEvent;
+import com.inventory.trace.TraceOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReservationAdmissionTest {
+
+    private ReservationTracer tracer;
+    private ReservationAdmission admission;
+
+    @BeforeEach
+    void setUp() {
+        tracer = new ReservationTracer(true, 64, 100, 1, 500);
+        admission = new ReservationAdmission(tracer);
+        ReflectionTestUtils.setField(admission, "minConcurrency", 1);
+        ReflectionTestUtils.setField(admission, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(admission, "queueDepth", 0);
+        ReflectionTestUtils.setField(admission, "queueTimeoutMillis", 10L);
+        ReflectionTestUtils.setField(admission, "targetLatencyMillis", 50L);
+        ReflectionTestUtils.setField(admission, "adjustWindowSamples", 20);
+        ReflectionTestUtils.setField(admission, "limiterIdleTimeoutMillis", 60_000L);
+        ReflectionTestUtils.setField(admission, "soldOutTtlMillis", 60_000L);
+        ReflectionTestUtils.setField(admission, "retryAfterSeconds", 1L);
+    }
+
+    @Test
+    void shedsRequestsBeyondConcurrencyAndQueueLimits() throws Exception {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ReservationInput input = new ReservationInput("p1", 1);
+
+        final CompletableFuture<ReservationResult> first = CompletableFuture.supplyAsync(() ->
+            admission.admit(input, in -> {
+                entered.countDown();
+                await(release);
+                return reserved(in);
+            }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        final ReservationResult shed = admission.admit(input, ReservationAdmissionTest::reserved);
+        assertTrue(shed.isRejected());
+        assertEquals(RejectionReason.THROTTLED, shed.rejection().reason());
+        assertEquals(1L, shed.rejection().retryAfterSeconds());
+
+        release.countDown();
+        assertFalse(first.get(5, TimeUnit.SECONDS).isRejected());
+    }
+
+    @Test
+    void evictsIdleLimiters() {
+        ReflectionTestUtils.setField(admission, "limiterIdleTimeoutMillis", 0L);
+        admission.admit(new ReservationInput("p1", 1), ReservationAdmissionTest::reserved);
+        admission.admit(new ReservationInput("p2", 1), ReservationAdmissionTest::reserved);
+
+        assertTrue(limiters().isEmpty());
+    }
+
+    @Test
+    void keepsAdaptedLimitAcrossIdleGaps() {
+        ReflectionTestUtils.setField(admission, "maxConcurrency", 4);
+        ReflectionTestUtils.setField(admission, "adjustWindowSamples", 2);
+        final ReservationInput input = new ReservationInput("p1", 1);
+
+        for (int i = 0; i < 6; i++) {
+            admission.admit(input, in -> {
+                sleep(60);
+                return reserved(in);
+            });
+        }
+        assertEquals(1, limit("p1"));
+
+        for (int i = 0; i < 4; i++) {
+            admission.admit(input, ReservationAdmissionTest::reserved);
+        }
+        assertEquals(3, limit("p1"));
+
+        for (int i = 0; i < 4; i++) {
+            admission.admit(input, ReservationAdmissionTest::reserved);
+        }
+        assertEquals(4, limit("p1"));
+    }
+
+    @Test
+    void rejectsSoldOutProductsFromMemoryUntilMarkedAvailable() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ReservationInput input = new ReservationInput("p1", 1);
+
+        admission.admit(input, in -> {
+            calls.incrementAndGet();
+            return ReservationResult.rejected(Rejection.outOfStock(1, 0));
+        });
+        final ReservationResult memo = admission.admit(input, in -> {
+            calls.incrementAndGet();
+            return reserved(in);
+        });
+        assertEquals(RejectionReason.OUT_OF_STOCK, memo.rejection().reason());
+        assertEquals(1, calls.get());
+
+        admission.markAvailable("p1");
+        assertFalse(admission.admit(input, ReservationAdmissionTest::reserved).isRejected());
+    }
+
+    @Test
+    void tracesThrottlingAndCountsSoldOutHits() throws Exception {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<ReservationResult> first = CompletableFuture.supplyAsync(() ->
+            admission.admit(new ReservationInput("p1", 1), in -> {
+                entered.countDown();
+                await(release);
+                return reserved(in);
+            }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        admission.admit(new ReservationInput("p1", 1), ReservationAdmissionTest::reserved);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        
+        admission.admit(new ReservationInput("p2", 1), in -> ReservationResult.rejected(Rejection.outOfStock(1, 0)));
+        admission.admit(new ReservationInput("p2", 1), ReservationAdmissionTest::reserved);
+        
+        final List<TraceEvent> events = tracer.dump(null, null, 10);
+        assertEquals(1, events.size());
+        assertEquals(TraceOperation.ADMIT, events.get(0).operation());
+        assertEquals("p1", events.get(0).productId());
+        assertEquals(RejectionReason.THROTTLED.name(), events.get(0).outcome());
+        assertEquals(1L, admission.getStats().soldOutHits());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> limiters() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(admission, "limiters");
+    }
+
+    private int limit(final String productId) {
+        return (Integer) ReflectionTestUtils.getField(limiters().get(productId), "limit");
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ReservationResult reserved(final ReservationInput input) {
+        return ReservationResult.reserved(new ReservationOutput("r1", "o1", input.productId(), input.quantity(), "", "RESERVED"));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
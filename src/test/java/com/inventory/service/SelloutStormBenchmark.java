@@ -0,0 +1,151 @@
+package com.inventory.service;
+
+import com.inventory.dto.ProductInput;
+import com.inventory.dto.ReservationInput;
+import com.inventory.dto.ReservationResult;
+import com.inventory.dto.StockOutput;
+import com.inventory.exception.ErrorResponse;
+import com.inventory.exception.GlobalExceptionHandler;
+import com.inventory.exception.InvalidRequestException;
+import com.inventory.exception.RejectionReason;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@SpringBootTest
+class SelloutStormBenchmark {
+
+    private static final int STOCK = 200;
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 100;
+
+    @Autowired
+    private InventoryService service;
+
+    @Autowired
+    private ReservationAdmission admission;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void selloutStorm() throws Exception {
+        storm("warmup", this::reserveWithResult);
+        final Storm exceptions = storm("exception baseline", this::reserveThrowing);
+        final Storm results = storm("result type", this::reserveWithResult);
+        final Storm admitted = storm("result type + admission", this::reserveWithAdmission);
+
+        System.out.printf("rejection path: exception baseline %.1f us, result type %.1f us (%.1fx), with admission %.1f us (%.1fx)%n",
+            exceptions.rejectedMicros(), results.rejectedMicros(), exceptions.rejectedMicros() / results.rejectedMicros(),
+            admitted.rejectedMicros(), exceptions.rejectedMicros() / admitted.rejectedMicros());
+    }
+
+    private ResponseEntity<?> reserveThrowing(final ReservationInput input) {
+        try {
+            final ReservationResult result = service.reserveStock(input);
+            if (result.isRejected()) {
+                throw new InvalidRequestException(result.rejection().message());
+            }
+            return ResponseEntity.ok(result.output());
+        } catch (final InvalidRequestException e) {
+            return handler.handleInvalidRequest(e);
+        }
+    }
+
+    private ResponseEntity<?> reserveWithResult(final ReservationInput input) {
+        return respond(service.reserveStock(input));
+    }
+
+    private ResponseEntity<?> reserveWithAdmission(final ReservationInput input) {
+        return respond(admission.admit(input, service::reserveStock));
+    }
+
+    private static ResponseEntity<?> respond(final ReservationResult result) {
+        if (result.isRejected()) {
+            return GlobalExceptionHandler.handleRejection(result.rejection());
+        }
+        return ResponseEntity.ok(result.output());
+    }
+
+    private Storm storm(final String name, final Endpoint endpoint) throws Exception {
+        final String productId = service.addProduct(new ProductInput("sellout-" + UUID.randomUUID(), STOCK)).productId();
+        final ReservationInput input = new ReservationInput(productId, 1);
+
+        final AtomicInteger reserved = new AtomicInteger();
+        final AtomicInteger outOfStock = new AtomicInteger();
+        final AtomicInteger throttled = new AtomicInteger();
+        final AtomicInteger other = new AtomicInteger();
+        final AtomicLong rejectedNanos = new AtomicLong();
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    final long start = System.nanoTime();
+                    final ResponseEntity<?> response = endpoint.call(input);
+                    final long elapsed = System.nanoTime() - start;
+                    if (response.getStatusCode() == HttpStatus.OK) {
+                        reserved.incrementAndGet();
+                        continue;
+                    }
+                    rejectedNanos.addAndGet(elapsed);
+                    if (response.getStatusCode() == RejectionReason.OUT_OF_STOCK.getStatus()
+                            && response.getBody() instanceof ErrorResponse) {
+                        outOfStock.incrementAndGet();
+                    } else if (response.getStatusCode() == RejectionReason.THROTTLED.getStatus()) {
+                        throttled.incrementAndGet();
+                    } else {
+                        other.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        final long start = System.nanoTime();
+        startSignal.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        final long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        final int total = THREADS * REQUESTS_PER_THREAD;
+        final int rejected = total - reserved.get();
+        final Storm storm = new Storm(rejected == 0 ? 0 : rejectedNanos.get() / 1e3 / rejected);
+        System.out.printf("%s: %d requests on %d threads in %d ms (%.0f req/s), reserved=%d outOfStock=%d throttled=%d other=%d, rejected mean %.1f us%n",
+            name, total, THREADS, elapsedNanos / 1_000_000, total / (elapsedNanos / 1e9),
+            reserved.get(), outOfStock.get(), throttled.get(), other.get(), storm.rejectedMicros());
+
+        final StockOutput stock = service.getAvailableStock(productId);
+        assertEquals(STOCK, reserved.get());
+        assertEquals(0, other.get());
+        assertEquals(0, stock.availableStock());
+        assertEquals(STOCK, stock.reservedStock());
+        return storm;
+    }
+
+    @FunctionalInterface
+    private interface Endpoint {
+        ResponseEntity<?> call(ReservationInput input);
+    }
+
+    private record Storm(double rejectedMicros) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.inventory.trace;
+
+import com.inventory.exception.RejectionReason;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReservationTracerTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void keepsEveryRejectionWhileSamplingSuccesses() {
+        final ReservationTracer tracer = new ReservationTracer(true, 256, 100, 1, 10_000);
+        for (int i = 0; i < 100; i++) {
+            commit(tracer, i % 2 == 0 ? null : RejectionReason.OUT_OF_STOCK);
+        }
+
+        final List<TraceEvent> events = tracer.dump(null, null, 256);
+        assertEquals(51, events.size());
+        assertEquals(50, events.stream().filter(event -> event.outcome().equals("OUT_OF_STOCK")).count());
+    }
+
+    @Test
+    void samplesRejectionsAtTheirOwnRate() {
+        final ReservationTracer tracer = new ReservationTracer(true, 256, 1_000, 10, 10_000);
+        for (int i = 0; i < 90; i++) {
+            commit(tracer, RejectionReason.OUT_OF_STOCK);
+        }
+        tracer.recordRejection(TraceOperation.ADMIT, "p1", RejectionReason.THROTTLED, System.nanoTime());
+
+        assertEquals(10, tracer.dump(null, null, 256).size());
+    }
+
+    @Test
+    void expiryEventsMatchEveryExpiredReservation() {
+        final ReservationTracer tracer = new ReservationTracer(true, 256, 100, 20, 10_000);
+        TransactionSynchronizationManager.initSynchronization();
+        tracer.start(TraceOperation.EXPIRE, null, null)
+            .reservation("p1", "o1")
+            .reservation("p2", "o2")
+            .outcome("EXPIRED(2)");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(1, tracer.dump(null, "o2", 10).size());
+        assertEquals(1, tracer.dump("p1", "o1", 10).size());
+        assertEquals(0, tracer.dump("p1", "o2", 10).size());
+        assertEquals(List.of(new TraceReservation("p1", "o1"), new TraceReservation("p2", "o2")),
+            tracer.dump(null, "o1", 10).get(0).reservations());
+    }
+
+    private static void commit(final ReservationTracer tracer, final RejectionReason rejection) {
+        TransactionSynchronizationManager.initSynchronization();
+        final ReservationTrace trace = tracer.start(TraceOperation.RESERVE, "p1", null);
+        if (rejection != null) {
+            trace.rejected(rejection);
+        } else {
+            trace.outcome("RESERVED");
+        }
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static void complete(final int status) {
+        final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (final TransactionSynchronization synchronization : synchronizations) {
+            synchronization.beforeCommit(false);
+            synchronization.afterCompletion(status);
+        }
+    }
+}